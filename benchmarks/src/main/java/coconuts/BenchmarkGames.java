@@ -0,0 +1,97 @@
+package coconuts;
+
+import java.util.Random;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: BenchmarkGames
+ * Description: Helpers shared by the JMH benchmarks for building headless
+ *              games filled with a given number of entities. Coconuts and
+ *              laser beams are placed at random (seeded) positions across the
+ *              playfield so the collision pass has realistic work to do.
+ *              <p>
+ *              The playfield grows wider with the entity count so the density
+ *              of objects (and with it the number of hits per tick) stays the
+ *              same at every size; otherwise large games would be measuring
+ *              little but coconuts being destroyed and respawned.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+final class BenchmarkGames {
+
+    /** Height and smallest width of the playfield (same as the game window). */
+    static final int HEIGHT = 500, WIDTH = 600;
+
+    /** Playfield width in pixels per entity, which sets the object density. */
+    private static final int WIDTH_PER_ENTITY = 30;
+
+    /** One in this many spawned entities is a laser beam; the rest are coconuts. */
+    private static final int LASER_RATIO = 10;
+
+    private BenchmarkGames() {
+    }
+
+    /**
+     * Creates a headless game holding the crab, the beach and the given
+     * number of coconuts and laser beams.
+     *
+     * @param entityCount number of coconuts and laser beams to add
+     * @param random      source of the entity positions
+     * @return the new game
+     */
+    static OhCoconutsGameManager newGame(int entityCount, Random random) {
+        int width = Math.max(WIDTH, entityCount * WIDTH_PER_ENTITY);
+        OhCoconutsGameManager game = new OhCoconutsGameManager(HEIGHT, width);
+        fill(game, entityCount, random);
+        return game;
+    }
+
+    /**
+     * Adds coconuts and laser beams until the game holds the given number of
+     * them again, e.g. after a tick removed some.
+     *
+     * @param game        the game to fill
+     * @param entityCount number of coconuts and laser beams to reach
+     * @param random      source of the entity positions
+     */
+    static void fill(OhCoconutsGameManager game, int entityCount, Random random) {
+        int target = entityCount + 2; // The crab and the beach are always there
+        for (int i = game.getEntities().size(); i < target; i++) {
+            if (i % LASER_RATIO == 0) {
+                addLaser(game, random);
+            } else {
+                addCoconut(game, random);
+            }
+        }
+    }
+
+    /**
+     * Registers a coconut at a random position in the sky.
+     *
+     * @param game   the game to add to
+     * @param random source of the position
+     * @return the new coconut
+     */
+    static Coconut addCoconut(OhCoconutsGameManager game, Random random) {
+        Coconut coconut = new Coconut(game, random.nextInt(game.getWidth()));
+        coconut.setY(random.nextInt(HEIGHT));
+        game.registerObject(coconut);
+        return coconut;
+    }
+
+    /**
+     * Registers a laser beam at a random position in the sky.
+     *
+     * @param game   the game to add to
+     * @param random source of the position
+     * @return the new laser beam
+     */
+    static LaserBeam addLaser(OhCoconutsGameManager game, Random random) {
+        LaserBeam laser = new LaserBeam(game, random.nextInt(HEIGHT), random.nextInt(game.getWidth()));
+        game.registerObject(laser);
+        return laser;
+    }
+}
@@ -0,0 +1,31 @@
+package coconuts;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: BenchmarkMain
+ * Description: Entry point of the benchmarks jar. Accepts the usual JMH
+ *              command-line options and always adds the GC profiler, so every
+ *              run reports the allocation rate next to ops/s.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,79 @@
+package coconuts;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: CollisionBenchmark
+ * Description: Measures the pair test used by the collision pass,
+ *              IslandObject.canHit followed by IslandObject.isTouching, over
+ *              entityCount attacker/target pairs. Each attacker is a laser
+ *              beam (or the crab, for one pair in ten) placed close to a
+ *              coconut, so about half of the pairs are touching.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollisionBenchmark {
+
+    /** Number of attacker/target pairs tested per operation. */
+    @Param({"10", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private IslandObject[] attackers;
+
+    private IslandObject[] targets;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        OhCoconutsGameManager game = BenchmarkGames.newGame(0, random);
+        attackers = new IslandObject[entityCount];
+        targets = new IslandObject[entityCount];
+
+        for (int i = 0; i < entityCount; i++) {
+            Coconut coconut = BenchmarkGames.addCoconut(game, random);
+            int offsetX = random.nextInt(141) - 70;
+            int offsetY = random.nextInt(141) - 70;
+            attackers[i] = (i % 10 == 0)
+                    ? game.getCrab()
+                    : new LaserBeam(game, coconut.getY() + offsetY, coconut.getX() + offsetX);
+            targets[i] = coconut;
+        }
+    }
+
+    /**
+     * Tests every pair once.
+     *
+     * @return number of pairs that hit, so the work cannot be optimised away
+     */
+    @Benchmark
+    public int canHitAndIsTouching() {
+        int hits = 0;
+        for (int i = 0; i < attackers.length; i++) {
+            if (attackers[i].canHit(targets[i]) && attackers[i].isTouching(targets[i])) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,51 @@
+package coconuts;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: RegisterBenchmark
+ * Description: Measures creating and registering entities with
+ *              OhCoconutsGameManager.registerObject. One operation builds a
+ *              fresh headless game and registers entityCount coconuts and
+ *              laser beams into it.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegisterBenchmark {
+
+    /** Number of coconuts and laser beams registered per operation. */
+    @Param({"10", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private final Random random = new Random(42);
+
+    /**
+     * Registers entityCount entities into a new game.
+     *
+     * @return the game, so the work cannot be optimised away
+     */
+    @Benchmark
+    public OhCoconutsGameManager registerObject() {
+        return BenchmarkGames.newGame(entityCount, random);
+    }
+}
@@ -0,0 +1,65 @@
+package coconuts;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: RemovalBenchmark
+ * Description: Measures the removal pass of advanceOneTick
+ *              (OhCoconutsGameManager.removeScheduledObjects). Before every
+ *              operation a game with entityCount coconuts and laser beams is
+ *              built and every other entity is scheduled for deletion, so
+ *              one operation removes half of them and compacts the rest.
+ *              <p>
+ *              The game is rebuilt per invocation, which JMH can only time
+ *              accurately when the operation itself is long enough; treat
+ *              the smallest entity count as indicative only.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RemovalBenchmark {
+
+    /** Number of coconuts and laser beams in the game before removal. */
+    @Param({"10", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private final Random random = new Random(42);
+
+    private OhCoconutsGameManager game;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        game = BenchmarkGames.newGame(entityCount, random);
+        EntityStore entities = game.getEntities();
+        for (int i = 2; i < entities.size(); i += 2) { // Keep the crab and the beach
+            game.scheduleForDeletion(entities.objects[i]);
+        }
+    }
+
+    @Benchmark
+    public void removeScheduledObjects() {
+        game.removeScheduledObjects();
+    }
+}
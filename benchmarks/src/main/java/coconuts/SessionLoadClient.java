@@ -0,0 +1,273 @@
+package coconuts;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: SessionLoadClient
+ * Description: Load test of SessionServer over loopback. Opens sessions in
+ *              steps, each played by a simple bot that holds FIRE and walks
+ *              left and right, and measures how many STATE messages per
+ *              second each session actually receives. The load grows until
+ *              the sessions get less than MIN_RATE_SHARE of the target tick
+ *              rate; the last step that kept up is the number of sessions
+ *              the server sustains. Games that end are joined again, so the
+ *              number of sessions stays constant within a step.
+ *              <p>
+ *              Without a host the server is started in this JVM on a free
+ *              loopback port. Its loop uses one thread, so the result is
+ *              sessions per core, as long as this client has a core of its
+ *              own; on a single-core machine start the server separately
+ *              and compare its round times instead.
+ *              </p>
+ *              <p>
+ *              Usage: SessionLoadClient [step] [stepSeconds] [maxSessions] [host:port]
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class SessionLoadClient {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** Defaults for the optional command-line arguments. */
+    private static final int DEFAULT_STEP = 100, DEFAULT_STEP_SECONDS = 5, DEFAULT_MAX_SESSIONS = 100_000;
+
+    /** Share of the target tick rate a step must reach to count as sustained. */
+    private static final double MIN_RATE_SHARE = 0.95;
+
+    /** Initial size of each client's read buffer. */
+    private static final int READ_BUFFER_BYTES = 4096;
+
+    /** STATE messages between the bot turning around. */
+    private static final int TURN_STATES = 30;
+
+
+    // -------------------------------------------------------------------------
+    // CLIENT
+    // -------------------------------------------------------------------------
+
+    /**
+     * One simulated player: a connection and the bot's state.
+     */
+    private static final class Client {
+
+        /** Connection to the server. */
+        final SocketChannel channel;
+
+        /** Bytes received but not yet decoded, in write mode; grows for large states. */
+        ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_BYTES);
+
+        /** STATE messages received since the client joined. */
+        long states = 0;
+
+        /** Whether the bot currently walks right. */
+        boolean right = false;
+
+        Client(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Address of the server. */
+    private final InetSocketAddress server;
+
+    /** Selector watching every client's connection. */
+    private final Selector selector;
+
+    /** Scratch buffer for outgoing messages. */
+    private final ByteBuffer out = ByteBuffer.allocate(64);
+
+    /** Connected clients. */
+    private final List<Client> clients = new ArrayList<>();
+
+    /** STATE messages received by all clients since the last reset. */
+    private long statesReceived = 0;
+
+    /** Seed of the next game joined. */
+    private long nextSeed = 1;
+
+    private SessionLoadClient(InetSocketAddress server) throws IOException {
+        this.server = server;
+        this.selector = Selector.open();
+    }
+
+
+    // -------------------------------------------------------------------------
+    // MAIN
+    // -------------------------------------------------------------------------
+
+    public static void main(String[] args) throws IOException {
+        int step = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_STEP;
+        int stepSeconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_STEP_SECONDS;
+        int maxSessions = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_MAX_SESSIONS;
+
+        SessionServer localServer = null;
+        InetSocketAddress address;
+        if (args.length > 3) {
+            String[] hostAndPort = args[3].split(":");
+            address = new InetSocketAddress(hostAndPort[0], Integer.parseInt(hostAndPort[1]));
+        } else {
+            localServer = new SessionServer(new InetSocketAddress("127.0.0.1", 0),
+                    SessionServer.DEFAULT_TICKS_PER_SECOND, GameConfig.DEFAULT);
+            address = new InetSocketAddress("127.0.0.1", localServer.getPort());
+            Thread serverThread = new Thread(localServer, "session-server");
+            serverThread.setDaemon(true);
+            serverThread.start();
+        }
+
+        SessionLoadClient load = new SessionLoadClient(address);
+        double target = SessionServer.DEFAULT_TICKS_PER_SECOND;
+        int sustained = 0;
+        for (int sessions = step; sessions <= maxSessions; sessions += step) {
+            load.connect(sessions);
+            load.run(1); // Let the new sessions join before measuring
+            load.statesReceived = 0;
+
+            long start = System.nanoTime();
+            load.run(stepSeconds);
+            double rate = load.statesReceived / ((System.nanoTime() - start) / 1e9) / sessions;
+            System.out.printf("%d sessions: %.1f states/s per session (target %.0f)%n", sessions, rate, target);
+            if (rate < MIN_RATE_SHARE * target) { break; }
+
+            sustained = sessions;
+        }
+        System.out.println("Sustained " + sustained + " sessions at " + target + " ticks/s ("
+                + Runtime.getRuntime().availableProcessors() + " cores available)");
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // LOAD
+    // -------------------------------------------------------------------------
+
+    /**
+     * Opens connections until the given number of clients are connected.
+     *
+     * @param sessions the number of clients wanted
+     */
+    private void connect(int sessions) throws IOException {
+        while (clients.size() < sessions) {
+            SocketChannel channel = SocketChannel.open(server);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.configureBlocking(false);
+            Client client = new Client(channel);
+            channel.register(selector, SelectionKey.OP_READ, client);
+            clients.add(client);
+
+            out.clear();
+            SessionProtocol.putJoin(out, nextSeed++);
+            SessionProtocol.putKey(out, true, PlayerInput.FIRE);
+            send(client);
+        }
+    }
+
+    /**
+     * Receives and answers server messages for a while.
+     *
+     * @param seconds how long to run
+     */
+    private void run(int seconds) throws IOException {
+        long end = System.nanoTime() + seconds * 1_000_000_000L;
+        while (System.nanoTime() < end) {
+            selector.select(100);
+            Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+            while (selected.hasNext()) {
+                SelectionKey key = selected.next();
+                selected.remove();
+                if (key.isValid() && key.isReadable()) {
+                    receive((Client) key.attachment());
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads and handles what the server sent to a client.
+     *
+     * @param client the client whose connection is readable
+     */
+    private void receive(Client client) throws IOException {
+        if (client.channel.read(client.in) < 0) {
+            replace(client); // The server closed the session after GAME_OVER
+            return;
+        }
+        ByteBuffer in = client.in;
+        in.flip();
+        for (int length = SessionProtocol.nextMessageLength(in); length >= 0;
+             length = SessionProtocol.nextMessageLength(in)) {
+            int next = in.position() + SessionProtocol.LENGTH_BYTES + length;
+            byte type = in.get(in.position() + SessionProtocol.LENGTH_BYTES);
+            in.position(next);
+            if (type == SessionProtocol.STATE) {
+                statesReceived++;
+                if (++client.states % TURN_STATES == 0) {
+                    turn(client);
+                }
+            }
+        }
+        in.compact();
+        if (!in.hasRemaining()) {
+            client.in = ByteBuffer.allocate(in.capacity() * 2).put(in.flip()); // A message larger than the buffer
+        }
+    }
+
+    /**
+     * Makes a client's bot walk the other way.
+     *
+     * @param client the client
+     */
+    private void turn(Client client) throws IOException {
+        out.clear();
+        SessionProtocol.putKey(out, false, client.right ? PlayerInput.RIGHT : PlayerInput.LEFT);
+        client.right = !client.right;
+        SessionProtocol.putKey(out, true, client.right ? PlayerInput.RIGHT : PlayerInput.LEFT);
+        send(client);
+    }
+
+    /**
+     * Closes a client whose game ended and joins a new game in its place.
+     *
+     * @param client the client to replace
+     */
+    private void replace(Client client) throws IOException {
+        client.channel.close();
+        clients.remove(client);
+        connect(clients.size() + 1);
+    }
+
+    /**
+     * Sends the scratch buffer to a client's connection. The messages are a
+     * few bytes, so they fit into the socket's send buffer at once.
+     *
+     * @param client the client to send from
+     */
+    private void send(Client client) throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            client.channel.write(out);
+        }
+    }
+}
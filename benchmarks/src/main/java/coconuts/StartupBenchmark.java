@@ -0,0 +1,140 @@
+package coconuts;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: StartupBenchmark
+ * Description: Measures the time from launch to the game's first frame for
+ *              each way of starting it: the scene built by FXMLLoader or in
+ *              code, each with and without the class-data sharing archive
+ *              built by "mvn package -Pcds". Every run is a fresh JVM, since
+ *              a cold start cannot be repeated inside one process, so this is
+ *              a plain program rather than a JMH benchmark.
+ *              <p>
+ *              The game reports the time since its process started when it
+ *              shows the first frame and then exits. The minimum and median
+ *              of those times are printed per variant, along with the
+ *              median wall time until the report was read here. Needs a
+ *              display, like the game itself.
+ *              </p>
+ *              <p>
+ *              Usage (from the project root, after "mvn package -Pcds"):
+ *                  java -cp benchmarks/target/benchmarks.jar coconuts.StartupBenchmark
+ *                       [runs] [gameJar] [libDir] [cdsArchive]
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class StartupBenchmark {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** Default number of launches per variant. */
+    private static final int DEFAULT_RUNS = 10;
+
+    /** Default locations of the game jar, its JavaFX jars and the CDS archive. */
+    private static final String DEFAULT_GAME_JAR = "target/coconuts-1.0.jar", DEFAULT_LIB_DIR = "target/lib",
+            DEFAULT_CDS_ARCHIVE = "target/coconuts.jsa";
+
+
+    // -------------------------------------------------------------------------
+    // MAIN
+    // -------------------------------------------------------------------------
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+        Path gameJar = Path.of(args.length > 1 ? args[1] : DEFAULT_GAME_JAR);
+        Path libDir = Path.of(args.length > 2 ? args[2] : DEFAULT_LIB_DIR);
+        Path cdsArchive = Path.of(args.length > 3 ? args[3] : DEFAULT_CDS_ARCHIVE);
+
+        boolean haveArchive = Files.exists(cdsArchive);
+        if (!haveArchive) {
+            System.out.println("No CDS archive at " + cdsArchive + "; build it with mvn package -Pcds");
+        }
+
+        System.out.printf("%-10s %12s %15s %15s%n", "variant", "min (ms)", "median (ms)", "wall med (ms)");
+        for (boolean useCds : haveArchive ? new boolean[] {false, true} : new boolean[] {false}) {
+            for (String sceneBuilder : new String[] {"fxml", "code"}) {
+                List<String> command = command(gameJar, libDir, useCds ? cdsArchive : null, sceneBuilder);
+
+                launch(command); // Warm the OS file cache so the first variant is not penalized
+                long[] reported = new long[runs], wall = new long[runs];
+                for (int i = 0; i < runs; i++) {
+                    long start = System.nanoTime();
+                    reported[i] = launch(command);
+                    wall[i] = (System.nanoTime() - start) / 1_000_000;
+                }
+                Arrays.sort(reported);
+                Arrays.sort(wall);
+                System.out.printf("%-10s %12d %15d %15d%n", sceneBuilder + (useCds ? "+cds" : ""),
+                        reported[0], reported[runs / 2], wall[runs / 2]);
+            }
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Builds the command line that starts the game and exits after its
+     * first frame.
+     *
+     * @param gameJar      the game's jar
+     * @param libDir       directory holding the JavaFX jars
+     * @param cdsArchive   class-data sharing archive to use, or null for none
+     * @param sceneBuilder how the scene is built ("code" or "fxml")
+     * @return the command line
+     */
+    private static List<String> command(Path gameJar, Path libDir, Path cdsArchive, String sceneBuilder) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (cdsArchive != null) {
+            command.add("-XX:SharedArchiveFile=" + cdsArchive);
+        }
+        command.add("-Dcoconuts.scene=" + sceneBuilder);
+        command.add("-D" + Main.EXIT_AFTER_FIRST_FRAME_PROPERTY + "=true");
+        command.addAll(List.of("--module-path", libDir.toString(), "--add-modules", "javafx.controls,javafx.fxml"));
+        command.addAll(List.of("-cp", gameJar.toString(), Main.class.getName()));
+        return command;
+    }
+
+    /**
+     * Starts the game once and waits for it to report its first frame.
+     *
+     * @param command the command line starting the game
+     * @return the milliseconds from process start to the first frame, as reported by the game
+     * @throws IOException if the game cannot be started or exits without reporting a frame
+     */
+    private static long launch(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        long millis = -1;
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            for (String line = output.readLine(); line != null; line = output.readLine()) {
+                if (millis < 0 && line.startsWith(Main.FIRST_FRAME_PREFIX)) {
+                    String rest = line.substring(Main.FIRST_FRAME_PREFIX.length());
+                    millis = Long.parseLong(rest.substring(0, rest.indexOf(' ')));
+                }
+            }
+        }
+        process.waitFor();
+        if (millis < 0) {
+            throw new IOException("The game exited with " + process.exitValue() + " without showing a frame: "
+                    + String.join(" ", command));
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,64 @@
+package coconuts;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: TickBenchmark
+ * Description: Measures OhCoconutsGameManager.advanceOneTick with a steady
+ *              number of coconuts and laser beams in play. After every tick
+ *              the game is topped back up to entityCount entities, the way
+ *              the real game keeps spawning, so every operation is a tick
+ *              over the same population. workerThreads compares single-
+ *              threaded ticks with ticks split across worker threads.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TickBenchmark {
+
+    /** Number of coconuts and laser beams in play. */
+    @Param({"10", "1000", "10000", "100000"})
+    public int entityCount;
+
+    /** Number of threads each tick is split across (1 = single-threaded). */
+    @Param({"1", "4"})
+    public int workerThreads;
+
+    private OhCoconutsGameManager game;
+
+    private Random random;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        random = new Random(42);
+        game = BenchmarkGames.newGame(entityCount, random);
+        game.setWorkerThreads(workerThreads);
+    }
+
+    @Benchmark
+    public void advanceOneTick() {
+        game.advanceOneTick();
+        BenchmarkGames.fill(game, entityCount, random);
+    }
+}
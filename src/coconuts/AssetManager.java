@@ -0,0 +1,129 @@
+package coconuts;
+
+import javafx.scene.image.Image;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: AssetManager
+ * Description: Central cache of the game's images. preload() starts a
+ *              background thread that loads every image in the images
+ *              directory during startup, so the FX thread never blocks on
+ *              decoding a PNG. Sprites used by island objects are decoded
+ *              already scaled to their in-game width, so views can draw them
+ *              as they are instead of rescaling the full-size image for
+ *              every ImageView or frame.
+ *              <p>
+ *              Anything asked for before the preloader has reached it is
+ *              loaded on demand with JavaFX background loading, so callers
+ *              never wait.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public final class AssetManager {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** Directory (relative to the working directory) holding the images. */
+    private static final String IMAGE_DIRECTORY = "images";
+
+    /** In-game width of each sprite; other images are loaded at full size. */
+    private static final Map<String, Integer> SPRITE_WIDTHS = Map.of(
+            Crab.IMAGE, Crab.WIDTH,
+            Coconut.IMAGE, Coconut.WIDTH,
+            LaserBeam.IMAGE, LaserBeam.WIDTH
+    );
+
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Loaded images, keyed by file and width (0 = full size). */
+    private static final Map<String, Image> images = new ConcurrentHashMap<>();
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    private AssetManager() {
+        // Static cache only
+    }
+
+
+    // -------------------------------------------------------------------------
+    // LOADING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Starts loading every image in the images directory on a background
+     * thread. Returns immediately.
+     */
+    public static void preload() {
+        Thread loader = new Thread(AssetManager::loadImageDirectory, "asset-preloader");
+        loader.setDaemon(true); // Never keeps the application alive
+        loader.start();
+    }
+
+    /**
+     * Returns an image scaled to the given width, keeping its aspect ratio.
+     * If it has not been loaded yet, it starts loading in the background and
+     * is drawn once ready.
+     *
+     * @param imageFile path of the image relative to the working directory
+     * @param width     width to scale the image to in pixels (0 = full size)
+     * @return the image
+     */
+    public static Image getSprite(String imageFile, int width) {
+        String key = key(imageFile, width);
+        Image image = images.get(key);
+        if (image != null) { return image; }
+
+        image = new Image("file:" + imageFile, width, 0, true, true, true);
+        Image loaded = images.putIfAbsent(key, image);
+        return loaded != null ? loaded : image;
+    }
+
+    /**
+     * Loads every PNG in the images directory, scaled to the in-game width
+     * for sprites. Runs on the preloader thread.
+     */
+    private static void loadImageDirectory() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Path.of(IMAGE_DIRECTORY), "*.png")) {
+            for (Path file : files) {
+                String imageFile = IMAGE_DIRECTORY + "/" + file.getFileName();
+                int width = SPRITE_WIDTHS.getOrDefault(imageFile, 0);
+                String key = key(imageFile, width);
+                if (images.containsKey(key)) { continue; } // Already asked for and loading
+
+                // Decode outside the map so lookups of other images never wait for it
+                Image image = new Image(file.toUri().toString(), width, 0, true, true, false);
+                images.putIfAbsent(key, image);
+            }
+        } catch (IOException e) {
+            System.out.println("Could not preload images: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Builds the cache key for an image at a given width.
+     *
+     * @param imageFile path of the image relative to the working directory
+     * @param width     width of the image in pixels (0 = full size)
+     * @return the cache key
+     */
+    private static String key(String imageFile, int width) {
+        return imageFile + "@" + width;
+    }
+}
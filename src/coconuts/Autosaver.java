@@ -0,0 +1,116 @@
+package coconuts;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: Autosaver
+ * Description: Saves a game to a snapshot file every few ticks without
+ *              stalling the game loop. On the tick thread only the entity
+ *              columns are copied into a GameSnapshot (a handful of array
+ *              copies); encoding and writing the file happen on a background
+ *              thread. If the previous save is still being written when the
+ *              next one is due, that save is skipped rather than queued.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class Autosaver implements AutoCloseable {
+
+    /** Default number of ticks between saves (5 seconds at 30 ticks/s). */
+    public static final int DEFAULT_INTERVAL = 150;
+
+    /** File the snapshots are written to. */
+    private final Path file;
+
+    /** Game being saved. */
+    private final OhCoconutsGameManager game;
+
+    /** Number of ticks between saves. */
+    private final int interval;
+
+    /** Background thread that writes the snapshots. */
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Autosaver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Whether a save is being written right now. */
+    private final AtomicBoolean saving = new AtomicBoolean(false);
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates an autosaver for the game.
+     *
+     * @param file     file to save snapshots to
+     * @param game     the game to save
+     * @param interval number of ticks between saves
+     */
+    public Autosaver(Path file, OhCoconutsGameManager game, int interval) {
+        this.file = file;
+        this.game = game;
+        this.interval = interval;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // SAVING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Called after each tick on the game loop's thread; starts a save when
+     * one is due.
+     */
+    public void afterTick() {
+        if (game.getTickCount() % interval == 0) {
+            save();
+        }
+    }
+
+    /**
+     * Captures the game now and writes it in the background, unless a save
+     * is already in progress.
+     */
+    public void save() {
+        if (!saving.compareAndSet(false, true)) { return; } // Previous save still running
+
+        GameSnapshot snapshot = game.snapshot();
+        writer.execute(() -> {
+            try {
+                SnapshotFile.save(file, snapshot);
+            } catch (IOException e) {
+                System.out.println("Could not autosave: " + e.getMessage());
+            } finally {
+                saving.set(false);
+            }
+        });
+    }
+
+    /**
+     * Saves the game one last time and waits for the writes to finish. If
+     * the calling thread is interrupted while waiting, it stops waiting and
+     * keeps its interrupt status.
+     */
+    @Override
+    public void close() {
+        saving.set(false); // A save in progress is queued ahead of this final one anyway
+        save();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package coconuts;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: BatchRunner
+ * Description: Plays many independent headless games as fast as the machine
+ *              allows, spread over every core with a fork-join pool. Each
+ *              game is ticked like the GUI would tick it (drop a coconut,
+ *              advance one tick) with a BotStrategy playing the crab, until
+ *              the crab dies, the game is done or a tick limit is reached.
+ *              <p>
+ *              Every game follows the same GameConfig, read from
+ *              "--key=value" options and "--config=file" like StressRunner
+ *              does, so batches can compare drop intervals, maximum times
+ *              and other rules (autoFireInterval and runTicks are not used:
+ *              the bot does the firing and maxTicks limits each game).
+ *              One CSV row is written per game (game number, ticks,
+ *              destroyed, beached, final health, then the rules it was
+ *              played with) and the overall games per second is printed.
+ *              Game i is seeded with i, so any game in the CSV can be
+ *              played again exactly.
+ *              Used to tune the drop rate and compare bot strategies.
+ *              </p>
+ *              <p>
+ *              Usage: BatchRunner [games] [maxTicks] [csvFile] [bot] [threads]
+ *                     [--config=file.properties] [--key=value ...]
+ *              e.g. BatchRunner 1000 10000 fast.csv --dropInterval=5 --maxTime=300
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class BatchRunner {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** Size of the playfield, matching the GUI's game pane minus the beach. */
+    static final int GAME_HEIGHT = 500, GAME_WIDTH = 600;
+
+    /** Defaults for the optional command-line arguments. */
+    private static final int DEFAULT_GAMES = 1000, DEFAULT_MAX_TICKS = 10_000;
+    private static final String DEFAULT_CSV = "batch-results.csv", DEFAULT_BOT = "tracker";
+
+    /** Rules written into every CSV row, after the results. */
+    private static final String[] CONFIG_COLUMNS = {
+            GameConfig.KEY_DROP_INTERVAL, GameConfig.KEY_COCONUTS_PER_DROP, GameConfig.KEY_MAX_TIME,
+            GameConfig.KEY_INITIAL_HEALTH, GameConfig.KEY_HEIGHT, GameConfig.KEY_WIDTH
+    };
+
+
+    // -------------------------------------------------------------------------
+    // RESULT
+    // -------------------------------------------------------------------------
+
+    /**
+     * Outcome of a single game.
+     *
+     * @param game      index of the game in the batch, also its seed
+     * @param ticks     number of ticks played
+     * @param destroyed coconuts destroyed by the crab
+     * @param beached   coconuts that reached the beach
+     * @param health    crab health when the game ended
+     */
+    record GameResult(int game, int ticks, int destroyed, int beached, int health) {
+
+        /** Returns this result as a CSV row. */
+        String toCsv() {
+            return game + "," + ticks + "," + destroyed + "," + beached + "," + health;
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // MAIN
+    // -------------------------------------------------------------------------
+
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        List<String> positional = new ArrayList<>(), configArgs = new ArrayList<>();
+        for (String arg : args) {
+            (arg.startsWith("--") ? configArgs : positional).add(arg);
+        }
+        int games = positional.size() > 0 ? Integer.parseInt(positional.get(0)) : DEFAULT_GAMES;
+        int maxTicks = positional.size() > 1 ? Integer.parseInt(positional.get(1)) : DEFAULT_MAX_TICKS;
+        Path csvFile = Path.of(positional.size() > 2 ? positional.get(2) : DEFAULT_CSV);
+        BotStrategy bot = BotStrategy.named(positional.size() > 3 ? positional.get(3) : DEFAULT_BOT);
+        int threads = positional.size() > 4 ? Integer.parseInt(positional.get(4))
+                : Runtime.getRuntime().availableProcessors();
+        GameConfig config = GameConfig.parse(configArgs.toArray(new String[0]));
+        System.out.println("Batch: " + config);
+
+        long start = System.nanoTime();
+        List<GameResult> results = runBatch(games, maxTicks, config, bot, threads);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        writeCsv(csvFile, results, config);
+
+        long totalTicks = results.stream().mapToLong(GameResult::ticks).sum();
+        System.out.printf("%d games (%d ticks) on %d threads in %.2f s: %.1f games/s, %.0f ticks/s%n",
+                games, totalTicks, threads, seconds, games / seconds, totalTicks / seconds);
+        System.out.println("Results written to " + csvFile);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // BATCH EXECUTION
+    // -------------------------------------------------------------------------
+
+    /**
+     * Plays the given number of games on a fork-join pool and waits for all
+     * of them to finish.
+     *
+     * @param games    number of games to play
+     * @param maxTicks tick limit for each game
+     * @param config   rules every game is played with
+     * @param bot      strategy playing the crab
+     * @param threads  number of worker threads
+     * @return the results, in game order
+     */
+    static List<GameResult> runBatch(int games, int maxTicks, GameConfig config, BotStrategy bot, int threads)
+            throws InterruptedException, ExecutionException {
+        List<Callable<GameResult>> tasks = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            int game = i;
+            tasks.add(() -> playGame(game, maxTicks, config, bot));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<GameResult> results = new ArrayList<>(games);
+            for (Future<GameResult> result : pool.invokeAll(tasks)) {
+                results.add(result.get());
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays one headless game until the crab dies, the game is done, or the
+     * tick limit is reached.
+     *
+     * @param game     index of the game in the batch, used as its seed
+     * @param maxTicks tick limit
+     * @param config   rules of the game
+     * @param bot      strategy playing the crab
+     * @return the outcome of the game
+     */
+    static GameResult playGame(int game, int maxTicks, GameConfig config, BotStrategy bot) {
+        OhCoconutsGameManager theGame = new OhCoconutsGameManager(config, GameView.NONE, game);
+
+        int ticks = 0;
+        while (ticks < maxTicks && theGame.getCrab() != null && !theGame.done()) {
+            bot.act(theGame, ticks);
+            theGame.tryDropCoconut();
+            theGame.advanceOneTick();
+            ticks++;
+        }
+
+        ScoreboardData data = theGame.getScoreboardData();
+        return new GameResult(game, ticks, data.getDestroyedCoconuts(), data.getBeachedCoconuts(), data.getHealth());
+    }
+
+
+    // -------------------------------------------------------------------------
+    // OUTPUT
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes one CSV row per game, with a header row. Each row ends with
+     * the rules the games were played with, so the files of several
+     * batches can be joined and compared.
+     *
+     * @param csvFile file to write
+     * @param results results of the games
+     * @param config  rules the games were played with
+     */
+    private static void writeCsv(Path csvFile, List<GameResult> results, GameConfig config) throws IOException {
+        int[] values = {
+                config.getDropInterval(), config.getCoconutsPerDrop(), config.getMaxTime(),
+                config.getInitialHealth(), config.getHeight(), config.getWidth()
+        };
+        StringBuilder rules = new StringBuilder();
+        for (int value : values) {
+            rules.append(',').append(value);
+        }
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(csvFile))) {
+            out.println("game,ticks,destroyed,beached,health," + String.join(",", CONFIG_COLUMNS));
+            for (GameResult result : results) {
+                out.println(result.toCsv() + rules);
+            }
+        }
+    }
+}
@@ -18,7 +18,7 @@ package coconuts;
  * @since   10/22/25
  * -----------------------------------------------------------------------------
  */
-public class Beach extends IslandObject {
+public final class Beach extends IslandObject {
 
     /**
      * Constructs a Beach object at the specified vertical position within
@@ -30,17 +30,8 @@ public class Beach extends IslandObject {
      * @param islandWidth  the total width of the island, determining beach length
      */
     public Beach(OhCoconutsGameManager game, int skyHeight, int islandWidth) {
-        super(game, 0, skyHeight, islandWidth, null); // Initializes the beach with given dimensions and game reference
-        // System.out.println("Beach at y = " + this.y); // Debug output for verifying beach position
-    }
-
-    /**
-     * Called on each game tick to update the object's state.
-     * The beach does not have dynamic behavior, so this method intentionally
-     * performs no actions.
-     */
-    @Override
-    public void step() {
-        /* do nothing */
+        // The beach does not move, so its vertical speed is 0
+        super(game, EntityType.BEACH, 0, skyHeight, islandWidth, 0, null); // Initializes the beach with given dimensions and game reference
+        // System.out.println("Beach at y = " + getY()); // Debug output for verifying beach position
     }
 }
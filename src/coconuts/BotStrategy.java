@@ -0,0 +1,74 @@
+package coconuts;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Interface Name: BotStrategy
+ * Description: Plays the crab in headless games. Before every tick the batch
+ *              runner hands the game to the strategy, which may crawl the crab
+ *              and fire lasers the same way the keyboard does in the GUI.
+ *              <p>
+ *              A strategy is shared by every game in a batch and may be called
+ *              from several threads at once, so it must keep no state of its
+ *              own between calls.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public interface BotStrategy {
+
+    /** Strategy that never moves or fires. */
+    BotStrategy IDLE = (game, tick) -> { };
+
+    /** Strategy that walks under the lowest coconut and fires every few ticks. */
+    BotStrategy TRACKER = new BotStrategy() {
+        @Override
+        public void act(OhCoconutsGameManager game, int tick) {
+            Crab crab = game.getCrab();
+            if (crab == null) { return; }
+
+            // Find the coconut closest to the ground
+            EntityStore entities = game.getEntities();
+            int target = -1;
+            for (int i = 0; i < entities.size(); i++) {
+                if (entities.type[i] == EntityType.COCONUT && entities.alive[i] == 1
+                        && (target < 0 || entities.y[i] > entities.y[target])) {
+                    target = i;
+                }
+            }
+            if (target < 0) { return; }
+
+            int offset = entities.x[target] - crab.getX();
+            if (Math.abs(offset) >= 10) {
+                crab.crawl(offset > 0 ? 10 : -10); // Same step as one key press
+            }
+            if (tick % 3 == 0) {
+                game.tryShootLaser();
+            }
+        }
+    };
+
+    /**
+     * Makes this strategy's move for the coming tick.
+     *
+     * @param game the game being played
+     * @param tick number of ticks played so far
+     */
+    void act(OhCoconutsGameManager game, int tick);
+
+    /**
+     * Returns the strategy with the given name.
+     *
+     * @param name "idle" or "tracker"
+     * @return the matching strategy
+     * @throws IllegalArgumentException if no strategy has that name
+     */
+    static BotStrategy named(String name) {
+        return switch (name) {
+            case "idle" -> IDLE;
+            case "tracker" -> TRACKER;
+            default -> throw new IllegalArgumentException("Unknown bot strategy: " + name);
+        };
+    }
+}
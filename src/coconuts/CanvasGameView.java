@@ -0,0 +1,114 @@
+package coconuts;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: CanvasGameView
+ * Description: JavaFX view that draws every island object into a single
+ *              Canvas in one pass per frame, instead of keeping one ImageView
+ *              node per object like PaneGameView. Adding or removing objects
+ *              only updates a set in this class; the scene graph always holds
+ *              just the one Canvas node, so layout and CSS work does not grow
+ *              with the number of coconuts.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class CanvasGameView implements GameView {
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Canvas all objects are drawn into. */
+    private final Canvas canvas;
+
+    /** Objects currently drawn, in the order they were added. */
+    private final Set<IslandObject> shownObjects = new LinkedHashSet<>();
+
+    /** Sprite of each entity type, looked up when the first object of the type is added. */
+    private final Image[] sprites = new Image[EntityType.COUNT];
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates a view that draws island objects into a Canvas covering the
+     * given pane. The Canvas is placed behind the pane's other children so
+     * the labels stay on top.
+     *
+     * @param gamePane the JavaFX Pane used to display game objects
+     */
+    public CanvasGameView(Pane gamePane) {
+        canvas = new Canvas(gamePane.getPrefWidth(), gamePane.getPrefHeight());
+        canvas.setMouseTransparent(true);
+        gamePane.getChildren().add(0, canvas);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // VIEW SINK METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Starts drawing the object (if it has an image), looking up the sprite
+     * of its type the first time.
+     *
+     * @param object the newly registered object
+     */
+    @Override
+    public void objectAdded(IslandObject object) {
+        if (object.getImageFile() == null) { return; }
+
+        if (sprites[object.getType()] == null) {
+            sprites[object.getType()] = AssetManager.getSprite(object.getImageFile(), object.getWidth());
+        }
+        shownObjects.add(object);
+    }
+
+    /**
+     * Stops drawing the object.
+     *
+     * @param object the removed object
+     */
+    @Override
+    public void objectRemoved(IslandObject object) {
+        shownObjects.remove(object);
+    }
+
+    /**
+     * Stops drawing the object while it stays in the game.
+     *
+     * @param object the object to hide
+     */
+    @Override
+    public void objectHidden(IslandObject object) {
+        shownObjects.remove(object);
+    }
+
+    /**
+     * Clears the canvas and draws every shown object at its position
+     * interpolated between the last two ticks.
+     *
+     * @param alpha fraction of a tick that has passed since the last tick (0 to 1)
+     */
+    @Override
+    public void render(double alpha) {
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        for (IslandObject object : shownObjects) {
+            // Sprites come pre-scaled to the object's width, so draw them at natural size
+            graphics.drawImage(sprites[object.getType()], object.getRenderX(alpha), object.getRenderY(alpha));
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package coconuts;
 
-import javafx.scene.image.Image;
-
 /**
  * -----------------------------------------------------------------------------
  * Class Name: Coconut
@@ -11,7 +9,7 @@ import javafx.scene.image.Image;
  *              coconut disappears; if it reaches the beach, it may affect the
  *              game score.
  *              <p>
- *              Note: This is a domain class; aside from the Image reference,
+ *              Note: This is a domain class; aside from the image file name,
  *              no JavaFX or GUI logic should be introduced here.
  *              </p>
  *
@@ -21,17 +19,20 @@ import javafx.scene.image.Image;
  * @since   10/22/25
  * -----------------------------------------------------------------------------
  */
-public class Coconut extends HittableIslandObject implements Observer {
+public final class Coconut extends HittableIslandObject implements Observer {
 
     // -------------------------------------------------------------------------
     // CONSTANTS
     // -------------------------------------------------------------------------
 
     /** The visual width (in pixels) of the coconut. */
-    private static final int WIDTH = 50;
+    static final int WIDTH = 50;
+
+    /** Distance in pixels the coconut falls per tick. */
+    private static final int FALL_SPEED = 5;
 
-    /** The image representation of the coconut used for rendering in the game. */
-    private static final Image coconutImage = new Image("file:images/coco-1.png");
+    /** The image file of the coconut used for rendering in the game. */
+    static final String IMAGE = "images/coco-1.png";
 
 
     // -------------------------------------------------------------------------
@@ -47,7 +48,16 @@ public class Coconut extends HittableIslandObject implements Observer {
      * @param x    the horizontal starting position of the coconut
      */
     public Coconut(OhCoconutsGameManager game, int x) {
-        super(game, x, 0, WIDTH, coconutImage); // Initializes coconut with width and image
+        super(game, EntityType.COCONUT, x, 0, WIDTH, FALL_SPEED, IMAGE); // Initializes coconut with width and image
+    }
+
+    /**
+     * Brings a pooled coconut back into play at the top of the screen.
+     *
+     * @param x the horizontal starting position of the coconut
+     */
+    void respawn(int x) {
+        spawn(EntityType.COCONUT, x, 0, WIDTH, FALL_SPEED);
     }
 
 
@@ -55,15 +65,6 @@ public class Coconut extends HittableIslandObject implements Observer {
     // METHODS
     // -------------------------------------------------------------------------
 
-    /**
-     * Updates the coconut's position on each game tick.
-     * This simulates the coconut falling by incrementing its y-coordinate.
-     */
-    @Override
-    public void step() {
-        y += 5; // Moves the coconut downward by 5 pixels per tick
-    }
-
     /**
      * Deletes the coconut from the game.
      * <p>
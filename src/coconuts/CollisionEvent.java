@@ -0,0 +1,44 @@
+package coconuts;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: CollisionEvent
+ * Description: Flight Recorder event for one hit found by the collision pass,
+ *              with the types and positions of the attacker and the target.
+ *              Disabled unless a recording enables it.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+@Name("coconuts.Collision")
+@Label("Collision")
+@Category({"Oh Coconuts", "Entities"})
+@Description("An island object hitting another")
+@Enabled(false)
+@StackTrace(false)
+class CollisionEvent extends Event {
+
+    @Label("Tick")
+    int tick;
+
+    @Label("Attacker Type")
+    String attackerType;
+
+    @Label("Target Type")
+    String targetType;
+
+    @Label("Target X")
+    int targetX;
+
+    @Label("Target Y")
+    int targetY;
+}
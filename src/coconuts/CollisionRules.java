@@ -0,0 +1,186 @@
+package coconuts;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: CollisionRules
+ * Description: Precomputed matrix of which entity type can hit which, and
+ *              what each hit does to the score. A pair of types maps to a
+ *              rule index (attacker * EntityType.COUNT + target); the
+ *              collision pass filters pairs and applies score effects with
+ *              plain array lookups instead of type checks.
+ *              <p>
+ *              A type can also be marked as touching along the whole width
+ *              of the playfield, like the beach: its entities touch any
+ *              target that is far enough below them, whatever its x, and
+ *              are tested against every target instead of nearby ones.
+ *              </p>
+ *              <p>
+ *              Adding an interaction or such a type means adding one row to
+ *              the static block below; nothing else needs to change.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public final class CollisionRules {
+
+    // -------------------------------------------------------------------------
+    // MATRIX
+    // -------------------------------------------------------------------------
+
+    /** Whether the attacker type of each rule can hit the target type. */
+    private static final boolean[] HITS = new boolean[EntityType.COUNT * EntityType.COUNT];
+
+    /** Score effects of each rule: change in health, destroyed and beached coconuts. */
+    private static final int[] HEALTH_DELTA = new int[HITS.length];
+    private static final int[] DESTROYED_DELTA = new int[HITS.length];
+    private static final int[] BEACHED_DELTA = new int[HITS.length];
+
+    /** Whether each type can hit any type, and can be hit by any type. */
+    private static final boolean[] ATTACKER = new boolean[EntityType.COUNT];
+    private static final boolean[] TARGET = new boolean[EntityType.COUNT];
+
+    /**
+     * Whether each type touches along the whole width, and how far below
+     * such an entity a target has to be to touch it.
+     */
+    private static final boolean[] WHOLE_WIDTH = new boolean[EntityType.COUNT];
+    private static final int[] WHOLE_WIDTH_DEPTH = new int[EntityType.COUNT];
+
+    static {
+        //   attacker             target               health destroyed beached
+        rule(EntityType.BEACH, EntityType.COCONUT,     0,     0,        1);  // Coconut lands on the beach
+        rule(EntityType.CRAB,  EntityType.COCONUT,    -5,     0,        0);  // Coconut falls on the crab
+        rule(EntityType.LASER, EntityType.COCONUT,     0,     1,        0);  // Laser shoots the coconut down
+
+        //         type              depth
+        wholeWidth(EntityType.BEACH, 20);  // Coconut has landed once it sinks 20px into the beach
+    }
+
+    private CollisionRules() {
+        // Static rules only
+    }
+
+
+    // -------------------------------------------------------------------------
+    // LOOKUPS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the rule index of a pair of types.
+     *
+     * @param attackerType type ID of the hitting entity
+     * @param targetType   type ID of the entity being hit
+     * @return the index into the rule matrix
+     */
+    static int rule(int attackerType, int targetType) {
+        return attackerType * EntityType.COUNT + targetType;
+    }
+
+    /**
+     * Determines whether entities of one type can hit entities of another.
+     *
+     * @param attackerType type ID of the hitting entity
+     * @param targetType   type ID of the entity being hit
+     * @return true if the first type can hit the second
+     */
+    public static boolean canHit(int attackerType, int targetType) {
+        return HITS[rule(attackerType, targetType)];
+    }
+
+    /**
+     * Determines whether entities of the given type can hit anything at all.
+     *
+     * @param type the type ID
+     * @return true if some rule has this type as the attacker
+     */
+    public static boolean canHitAnything(int type) {
+        return ATTACKER[type];
+    }
+
+    /**
+     * Determines whether entities of the given type can be hit by anything.
+     *
+     * @param type the type ID
+     * @return true if some rule has this type as the target
+     */
+    public static boolean canBeHit(int type) {
+        return TARGET[type];
+    }
+
+    /**
+     * Determines whether entities of the given type touch targets anywhere
+     * along the width of the playfield.
+     *
+     * @param type the type ID
+     * @return true if the type touches along the whole width
+     */
+    public static boolean touchesWholeWidth(int type) {
+        return WHOLE_WIDTH[type];
+    }
+
+    /**
+     * Returns how far below an entity that touches along the whole width a
+     * target has to be to touch it.
+     *
+     * @param type the type ID, one that touches along the whole width
+     * @return the distance in pixels
+     */
+    static int wholeWidthDepth(int type) {
+        return WHOLE_WIDTH_DEPTH[type];
+    }
+
+    /**
+     * Applies the score effect of a hit to the game's statistics.
+     *
+     * @param rule the rule index of the hit
+     * @param data the statistics to update
+     */
+    static void applyEffect(int rule, ScoreboardData data) {
+        if (HEALTH_DELTA[rule] != 0) {
+            data.changeHealth(HEALTH_DELTA[rule]);
+        }
+        if (DESTROYED_DELTA[rule] != 0) {
+            data.changeDestroyedCoconuts(DESTROYED_DELTA[rule]);
+        }
+        if (BEACHED_DELTA[rule] != 0) {
+            data.changeBeachCoconuts(BEACHED_DELTA[rule]);
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Adds a row to the matrix.
+     *
+     * @param attackerType type ID of the hitting entity
+     * @param targetType   type ID of the entity being hit
+     * @param health       change in the crab's health per hit
+     * @param destroyed    change in destroyed coconuts per hit
+     * @param beached      change in beached coconuts per hit
+     */
+    private static void rule(int attackerType, int targetType, int health, int destroyed, int beached) {
+        int rule = rule(attackerType, targetType);
+        HITS[rule] = true;
+        HEALTH_DELTA[rule] = health;
+        DESTROYED_DELTA[rule] = destroyed;
+        BEACHED_DELTA[rule] = beached;
+        ATTACKER[attackerType] = true;
+        TARGET[targetType] = true;
+    }
+
+    /**
+     * Marks a type as touching along the whole width.
+     *
+     * @param type  the type ID
+     * @param depth how far below the entity a target has to be to touch it
+     */
+    private static void wholeWidth(int type, int depth) {
+        WHOLE_WIDTH[type] = true;
+        WHOLE_WIDTH_DEPTH[type] = depth;
+    }
+}
@@ -1,7 +1,5 @@
 package coconuts;
 
-import javafx.scene.image.Image;
-
 /**
  * -----------------------------------------------------------------------------
  * Class Name: Crab
@@ -10,8 +8,8 @@ import javafx.scene.image.Image;
  *              falling coconut, which ends the game.
  *              <p>
  *              Note: This is a domain class and should not include any JavaFX
- *              or GUI-related functionality beyond the use of the Image object
- *              for visual representation.
+ *              or GUI-related functionality beyond the name of the image file
+ *              used for visual representation.
  *              </p>
  *
  * @author  Dominic Celentano
@@ -19,20 +17,17 @@ import javafx.scene.image.Image;
  * @since   10/22/25
  * -----------------------------------------------------------------------------
  */
-public class Crab extends HittableIslandObject {
+public final class Crab extends HittableIslandObject {
 
     // -------------------------------------------------------------------------
     // CONSTANTS
     // -------------------------------------------------------------------------
 
     /** The width (and assumed height) of the crab image in pixels. */
-    private static final int WIDTH = 50;
-
-    /** The image asset used to visually represent the crab in the game. */
-    private static final Image crabImage = new Image("file:images/crab-1.png");
+    static final int WIDTH = 50;
 
-    /** Reference to the game manager controlling the overall game logic. */
-    private static OhCoconutsGameManager game;
+    /** The image file used to visually represent the crab in the game. */
+    static final String IMAGE = "images/crab-1.png";
 
 
     // -------------------------------------------------------------------------
@@ -48,8 +43,8 @@ public class Crab extends HittableIslandObject {
      * @param islandWidth  the total width of the island, used to center the crab
      */
     public Crab(OhCoconutsGameManager game, int skyHeight, int islandWidth) {
-        super(game, islandWidth / 2, skyHeight, WIDTH, crabImage); // Initialize crab position and image
-        this.game = game;
+        // The crab only moves when told to crawl, so its vertical speed is 0
+        super(game, EntityType.CRAB, islandWidth / 2, skyHeight, WIDTH, 0, IMAGE); // Initialize crab position and image
     }
 
 
@@ -57,18 +52,6 @@ public class Crab extends HittableIslandObject {
     // METHODS
     // -------------------------------------------------------------------------
 
-    /**
-     * Updates the crab's state during each game tick.
-     * <p>
-     * The crab currently has no automatic movement or timed behavior, so this
-     * method intentionally performs no actions.
-     * </p>
-     */
-    @Override
-    public void step() {
-        // No behavior on step — crab movement is controlled manually
-    }
-
     /**
      * Moves the crab horizontally by the specified offset.
      * <p>
@@ -80,11 +63,12 @@ public class Crab extends HittableIslandObject {
      */
     public void crawl(int offset) {
         // Prevent movement if it would cause the crab to go out of bounds
-        if ((x + offset) + WIDTH > game.getWidth() || x + offset < 0) {
+        int x = getX();
+        if ((x + offset) + WIDTH > containingGame.getWidth() || x + offset < 0) {
             return; // Ignore move if outside playable area
         }
 
-        x += offset; // Apply horizontal movement
+        setX(x + offset); // Apply horizontal movement
         display();   // Update the crab’s visual position
     }
 }
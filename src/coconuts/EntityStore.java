@@ -0,0 +1,314 @@
+package coconuts;
+
+import java.util.Arrays;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: EntityStore
+ * Description: Structure-of-arrays storage for every island object in a game.
+ *              The id, type, position, position at the start of the last
+ *              tick, width, vertical speed and alive flag of each entity are
+ *              kept in parallel int columns indexed by a slot
+ *              number, so the per-tick step and collision passes walk plain
+ *              arrays instead of chasing object references.
+ *              <p>
+ *              IslandObject instances remain as thin views over a slot so
+ *              existing callers keep working. Removal is done in bulk by
+ *              compact(), which keeps the surviving entities in insertion
+ *              order and tells each moved view its new slot.
+ *              </p>
+ *              <p>
+ *              Slots change as entities are removed, so every entity also
+ *              gets an id that it keeps for as long as it is in the store.
+ *              Ids are handed out in increasing order and compact() keeps the
+ *              insertion order, so the id column is always sorted.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class EntityStore {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** Capacity of the columns when the store is created. */
+    private static final int INITIAL_CAPACITY = 64;
+
+
+    // -------------------------------------------------------------------------
+    // COLUMNS
+    // -------------------------------------------------------------------------
+
+    /** Stable id of each entity, increasing with the slot. */
+    int[] id = new int[INITIAL_CAPACITY];
+
+    /** Type ID of each entity (see EntityType). */
+    int[] type = new int[INITIAL_CAPACITY];
+
+    /** Horizontal and vertical coordinates of each entity. */
+    int[] x = new int[INITIAL_CAPACITY], y = new int[INITIAL_CAPACITY];
+
+    /** Coordinates of each entity at the start of the last tick, for interpolation. */
+    int[] previousX = new int[INITIAL_CAPACITY], previousY = new int[INITIAL_CAPACITY];
+
+    /** Width of each entity in pixels. */
+    int[] width = new int[INITIAL_CAPACITY];
+
+    /** Vertical distance each entity moves per tick (positive = down). */
+    int[] velocityY = new int[INITIAL_CAPACITY];
+
+    /** 1 while the entity is in play, 0 once it has been marked for removal. */
+    int[] alive = new int[INITIAL_CAPACITY];
+
+    /** View object of each entity. */
+    IslandObject[] objects = new IslandObject[INITIAL_CAPACITY];
+
+    /** Number of slots in use (alive or waiting for compact()). */
+    private int size = 0;
+
+    /** Id of the next entity added. */
+    private int nextId = 0;
+
+
+    // -------------------------------------------------------------------------
+    // ENTITY MANAGEMENT
+    // -------------------------------------------------------------------------
+
+    /**
+     * Appends a new entity to the store.
+     *
+     * @param object    the view object for the entity
+     * @param type      the entity's type ID
+     * @param x         the horizontal position
+     * @param y         the vertical position
+     * @param width     the width in pixels
+     * @param velocityY the vertical distance moved per tick
+     * @return the slot the entity was stored in
+     */
+    int add(IslandObject object, int type, int x, int y, int width, int velocityY) {
+        if (size == objects.length) {
+            grow();
+        }
+        int slot = size++;
+        this.id[slot] = nextId++;
+        this.type[slot] = type;
+        this.x[slot] = x;
+        this.y[slot] = y;
+        this.previousX[slot] = x;
+        this.previousY[slot] = y;
+        this.width[slot] = width;
+        this.velocityY[slot] = velocityY;
+        this.alive[slot] = 1;
+        this.objects[slot] = object;
+        return slot;
+    }
+
+    /**
+     * Marks an entity for removal. It stays in its slot until compact().
+     *
+     * @param slot the entity's slot
+     * @return true if the entity was alive before this call
+     */
+    boolean kill(int slot) {
+        if (alive[slot] == 0) { return false; }
+        alive[slot] = 0;
+        return true;
+    }
+
+    /**
+     * Drops every entity marked for removal in a single pass, sliding the
+     * survivors down so that slots stay dense and in insertion order.
+     */
+    void compact() {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (alive[i] == 0) {
+                if (objects[i].slot == i) {
+                    objects[i].slot = -1; // Unless it was already spawned again elsewhere
+                }
+                continue;
+            }
+            if (kept != i) {
+                id[kept] = id[i];
+                type[kept] = type[i];
+                x[kept] = x[i];
+                y[kept] = y[i];
+                previousX[kept] = previousX[i];
+                previousY[kept] = previousY[i];
+                width[kept] = width[i];
+                velocityY[kept] = velocityY[i];
+                alive[kept] = 1;
+                objects[kept] = objects[i];
+                objects[kept].slot = kept;
+            }
+            kept++;
+        }
+        Arrays.fill(objects, kept, size, null); // Let removed views be collected
+        size = kept;
+    }
+
+    /**
+     * Returns the number of slots in use.
+     *
+     * @return the number of entities, including ones waiting for compact()
+     */
+    int size() {
+        return size;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // SIMULATION
+    // -------------------------------------------------------------------------
+
+    /**
+     * Moves every entity by its velocity for one tick, remembering where
+     * each one started.
+     */
+    void stepAll() {
+        stepRange(0, size);
+    }
+
+    /**
+     * Moves the entities in a range of slots by their velocity for one tick,
+     * remembering where each one started. Ranges that do not overlap can be
+     * stepped on different threads at the same time.
+     *
+     * @param from first slot to move
+     * @param to   slot after the last one to move
+     */
+    void stepRange(int from, int to) {
+        System.arraycopy(x, from, previousX, from, to - from);
+        System.arraycopy(y, from, previousY, from, to - from);
+        for (int i = from; i < to; i++) {
+            y[i] += velocityY[i];
+        }
+    }
+
+    /**
+     * Moves a single entity by its velocity for one tick, remembering where
+     * it started.
+     *
+     * @param slot the entity's slot
+     */
+    void step(int slot) {
+        previousX[slot] = x[slot];
+        previousY[slot] = y[slot];
+        y[slot] += velocityY[slot];
+    }
+
+    /**
+     * Determines whether an entity's position lies outside the given bounds.
+     *
+     * @param slot the entity's slot
+     * @param minX smallest x-coordinate inside the bounds
+     * @param minY smallest y-coordinate inside the bounds
+     * @param maxX largest x-coordinate inside the bounds
+     * @param maxY largest y-coordinate inside the bounds
+     * @return true if the entity is outside the bounds
+     */
+    boolean isOutside(int slot, int minX, int minY, int maxX, int maxY) {
+        return x[slot] < minX || x[slot] > maxX || y[slot] < minY || y[slot] > maxY;
+    }
+
+    /**
+     * Determines whether the entity in one slot is touching the entity in
+     * another.
+     *
+     * @param slot  the slot of the hitting entity
+     * @param other the slot of the entity being hit
+     * @return true if the entities are close enough to be considered touching
+     */
+    boolean isTouching(int slot, int other) {
+        if (isBelowWholeWidth(slot, other)) { return true; }
+
+        int deltaX = Math.abs(x[other] - x[slot]);
+        int deltaY = Math.abs(y[other] - y[slot]);
+
+        return deltaY <= IslandObject.minimumTouchingDistance
+                && deltaX <= IslandObject.minimumTouchingDistance;
+    }
+
+    /**
+     * Determines whether two entities touched at any moment during the last
+     * tick, assuming both moved in a straight line from their previous to
+     * their current position. Unlike isTouching(), fast entities cannot pass
+     * through each other between two ticks.
+     * <p>
+     * Seen from the hitting entity, the other one moves along a segment; the
+     * entities touched if that segment enters the square of half-size
+     * minimumTouchingDistance around the origin (slab test).
+     * </p>
+     *
+     * @param slot  the slot of the hitting entity
+     * @param other the slot of the entity being hit
+     * @return true if the entities were close enough to touch during the tick
+     */
+    boolean isTouchingSwept(int slot, int other) {
+        if (isBelowWholeWidth(slot, other)) { return true; }
+
+        int distance = IslandObject.minimumTouchingDistance;
+        int startX = previousX[other] - previousX[slot], startY = previousY[other] - previousY[slot];
+        int endX = x[other] - x[slot], endY = y[other] - y[slot];
+
+        int deltaX = endX - startX, deltaY = endY - startY;
+
+        // An axis without relative motion is either within reach all tick or never
+        if ((deltaX == 0 && Math.abs(startX) > distance) || (deltaY == 0 && Math.abs(startY) > distance)) {
+            return false;
+        }
+
+        // Fraction of the tick during which the other entity is within reach on both axes
+        double enter = 0, exit = 1;
+        if (deltaX != 0) {
+            double a = (double) (-distance - startX) / deltaX, b = (double) (distance - startX) / deltaX;
+            enter = Math.max(enter, Math.min(a, b));
+            exit = Math.min(exit, Math.max(a, b));
+        }
+        if (deltaY != 0) {
+            double a = (double) (-distance - startY) / deltaY, b = (double) (distance - startY) / deltaY;
+            enter = Math.max(enter, Math.min(a, b));
+            exit = Math.min(exit, Math.max(a, b));
+        }
+        return enter <= exit;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Determines whether an entity that touches along the whole width (the
+     * beach) reaches another one because it is far enough below, whatever
+     * its x (see CollisionRules.touchesWholeWidth()).
+     *
+     * @param slot  the slot of the hitting entity
+     * @param other the slot of the entity being hit
+     * @return true if the hitting entity touches along the whole width and the other is deep enough
+     */
+    private boolean isBelowWholeWidth(int slot, int other) {
+        return CollisionRules.touchesWholeWidth(type[slot])
+                && y[other] >= y[slot] + CollisionRules.wholeWidthDepth(type[slot]);
+    }
+
+    /**
+     * Doubles the capacity of every column.
+     */
+    private void grow() {
+        int capacity = objects.length * 2;
+        id = Arrays.copyOf(id, capacity);
+        type = Arrays.copyOf(type, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        objects = Arrays.copyOf(objects, capacity);
+    }
+}
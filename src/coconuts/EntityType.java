@@ -0,0 +1,58 @@
+package coconuts;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: EntityType
+ * Description: Small integer IDs of the island object types, as stored in the
+ *              EntityStore type column and used to index the CollisionRules
+ *              matrix. Each concrete IslandObject subclass has exactly one ID.
+ *              <p>
+ *              To add an entity type: add an ID below (and bump COUNT), give
+ *              it a name and hittable flag, write its final subclass of the
+ *              sealed IslandObject hierarchy, and add its rows to
+ *              CollisionRules.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public final class EntityType {
+
+    /** Type IDs. */
+    public static final int BEACH = 0, CRAB = 1, COCONUT = 2, LASER = 3;
+
+    /** Number of type IDs; the size of each CollisionRules dimension. */
+    public static final int COUNT = 4;
+
+    /** Display name of each type, e.g. for Flight Recorder events. */
+    private static final String[] NAMES = {"Beach", "Crab", "Coconut", "LaserBeam"};
+
+    /** Whether objects of each type are HittableIslandObjects. */
+    private static final boolean[] HITTABLE = {false, true, true, true};
+
+    private EntityType() {
+        // Constants only
+    }
+
+    /**
+     * Returns the display name of a type.
+     *
+     * @param type the type ID
+     * @return the type's name
+     */
+    public static String name(int type) {
+        return NAMES[type];
+    }
+
+    /**
+     * Determines whether objects of the given type are hittable island
+     * objects.
+     *
+     * @param type the type ID
+     * @return true for crabs, coconuts and laser beams
+     */
+    public static boolean isHittable(int type) {
+        return HITTABLE[type];
+    }
+}
@@ -0,0 +1,51 @@
+package coconuts;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: FileStateSink
+ * Description: Writes a state stream to a file, for watching a game later
+ *              with Spectator. The file is flushed at every keyframe, so a
+ *              crash loses at most one keyframe interval.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class FileStateSink implements StateSink {
+
+    /** Stream the file is written through. */
+    private final OutputStream out;
+
+    /**
+     * Creates (or replaces) the file and writes the stream header.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public FileStateSink(Path file) throws IOException {
+        this.out = new BufferedOutputStream(Files.newOutputStream(file));
+        ByteBuffer header = ByteBuffer.allocate(StateStream.HEADER_BYTES);
+        StateStream.putHeader(header);
+        out.write(header.array());
+    }
+
+    @Override
+    public void write(ByteBuffer record, boolean keyframe) throws IOException {
+        out.write(record.array(), record.arrayOffset() + record.position(), record.remaining());
+        if (keyframe) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
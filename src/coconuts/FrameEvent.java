@@ -0,0 +1,32 @@
+package coconuts;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: FrameEvent
+ * Description: Flight Recorder event spanning one GameLoop frame (its ticks
+ *              and the render), so frame spikes can be lined up with GC and
+ *              allocation events. Disabled unless a recording enables it.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+@Name("coconuts.Frame")
+@Label("Frame")
+@Category({"Oh Coconuts", "Game Loop"})
+@Description("One frame of the game loop")
+@Enabled(false)
+@StackTrace(false)
+class FrameEvent extends Event {
+
+    @Label("Ticks Run")
+    int ticks;
+}
@@ -0,0 +1,273 @@
+package coconuts;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: GameConfig
+ * Description: Tunable rules of a game: how often and how many coconuts
+ *              drop, how long a game lasts, the crab's starting health and
+ *              the playfield size, plus settings for unattended runs such as
+ *              automatic laser fire and the number of ticks to run. DEFAULT
+ *              holds the values of the normal game.
+ *              <p>
+ *              A configuration is read from a properties file, from
+ *              "--key=value" command-line options, or both: parse() loads the
+ *              file named by "--config=file" first and lets the other options
+ *              override it. The keys are the names of the KEY_ constants.
+ *              </p>
+ *              <p>
+ *              Instances are immutable; the with...() methods return changed
+ *              copies.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public final class GameConfig {
+
+    // -------------------------------------------------------------------------
+    // KEYS
+    // -------------------------------------------------------------------------
+
+    /** Ticks between coconut drops. */
+    public static final String KEY_DROP_INTERVAL = "dropInterval";
+
+    /** Coconuts dropped at once. */
+    public static final String KEY_COCONUTS_PER_DROP = "coconutsPerDrop";
+
+    /** Game tick at which coconuts stop dropping, so the game can end. */
+    public static final String KEY_MAX_TIME = "maxTime";
+
+    /** Health of the crab at the start. */
+    public static final String KEY_INITIAL_HEALTH = "initialHealth";
+
+    /** Ticks between automatic laser shots (0 = no automatic fire). */
+    public static final String KEY_AUTO_FIRE_INTERVAL = "autoFireInterval";
+
+    /** Height and width of the playfield in pixels. */
+    public static final String KEY_HEIGHT = "height", KEY_WIDTH = "width";
+
+    /** Number of ticks an unattended run lasts. */
+    public static final String KEY_RUN_TICKS = "runTicks";
+
+    /** Command-line option naming a properties file to read first. */
+    private static final String CONFIG_OPTION = "config";
+
+    /** Configuration of the normal game. */
+    public static final GameConfig DEFAULT = new GameConfig(10, 1, 100, ScoreboardData.INITIAL_HEALTH, 0, 500, 600, 3000);
+
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    private final int dropInterval;
+    private final int coconutsPerDrop;
+    private final int maxTime;
+    private final int initialHealth;
+    private final int autoFireInterval;
+    private final int height, width;
+    private final int runTicks;
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates a configuration, checking that every value is usable.
+     *
+     * @throws IllegalArgumentException if a value is out of range
+     */
+    private GameConfig(int dropInterval, int coconutsPerDrop, int maxTime, int initialHealth,
+                       int autoFireInterval, int height, int width, int runTicks) {
+        this.dropInterval = atLeast(KEY_DROP_INTERVAL, dropInterval, 1);
+        this.coconutsPerDrop = atLeast(KEY_COCONUTS_PER_DROP, coconutsPerDrop, 0);
+        this.maxTime = atLeast(KEY_MAX_TIME, maxTime, 0);
+        this.initialHealth = atLeast(KEY_INITIAL_HEALTH, initialHealth, 1);
+        this.autoFireInterval = atLeast(KEY_AUTO_FIRE_INTERVAL, autoFireInterval, 0);
+        this.height = atLeast(KEY_HEIGHT, height, 1);
+        this.width = atLeast(KEY_WIDTH, width, Crab.WIDTH);
+        this.runTicks = atLeast(KEY_RUN_TICKS, runTicks, 0);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // LOADING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Reads a configuration from properties; missing keys keep the values
+     * of this configuration.
+     *
+     * @param properties the properties to read
+     * @return the configuration with the given properties applied
+     * @throws IllegalArgumentException if a key is unknown or a value is not a valid number
+     */
+    public GameConfig with(Properties properties) {
+        for (String key : properties.stringPropertyNames()) {
+            if (!isKey(key)) {
+                throw new IllegalArgumentException("Unknown setting: " + key);
+            }
+        }
+        return new GameConfig(
+                get(properties, KEY_DROP_INTERVAL, dropInterval),
+                get(properties, KEY_COCONUTS_PER_DROP, coconutsPerDrop),
+                get(properties, KEY_MAX_TIME, maxTime),
+                get(properties, KEY_INITIAL_HEALTH, initialHealth),
+                get(properties, KEY_AUTO_FIRE_INTERVAL, autoFireInterval),
+                get(properties, KEY_HEIGHT, height),
+                get(properties, KEY_WIDTH, width),
+                get(properties, KEY_RUN_TICKS, runTicks));
+    }
+
+    /**
+     * Reads a configuration from a properties file on top of DEFAULT.
+     *
+     * @param file the properties file
+     * @return the configuration
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file has an unknown key or invalid value
+     */
+    public static GameConfig load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        return DEFAULT.with(properties);
+    }
+
+    /**
+     * Reads a configuration from command-line options of the form
+     * "--key=value". "--config=file" loads a properties file first; the
+     * other options override it.
+     *
+     * @param args the command-line arguments
+     * @return the configuration
+     * @throws IOException              if the properties file cannot be read
+     * @throws IllegalArgumentException if an option is malformed, unknown or invalid
+     */
+    public static GameConfig parse(String[] args) throws IOException {
+        GameConfig config = DEFAULT;
+        Properties options = new Properties();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --key=value but got " + arg);
+            }
+            String key = arg.substring(2, equals), value = arg.substring(equals + 1);
+            if (key.equals(CONFIG_OPTION)) {
+                config = load(Path.of(value));
+            } else {
+                options.setProperty(key, value);
+            }
+        }
+        return config.with(options);
+    }
+
+    /**
+     * Returns a copy of this configuration with another playfield size.
+     *
+     * @param height the vertical size of the playfield
+     * @param width  the horizontal size of the playfield
+     * @return the changed configuration
+     */
+    public GameConfig withPlayfield(int height, int width) {
+        return new GameConfig(dropInterval, coconutsPerDrop, maxTime, initialHealth,
+                autoFireInterval, height, width, runTicks);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // ACCESSORS
+    // -------------------------------------------------------------------------
+
+    public int getDropInterval() {
+        return dropInterval;
+    }
+
+    public int getCoconutsPerDrop() {
+        return coconutsPerDrop;
+    }
+
+    public int getMaxTime() {
+        return maxTime;
+    }
+
+    public int getInitialHealth() {
+        return initialHealth;
+    }
+
+    public int getAutoFireInterval() {
+        return autoFireInterval;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getRunTicks() {
+        return runTicks;
+    }
+
+    @Override
+    public String toString() {
+        return KEY_DROP_INTERVAL + "=" + dropInterval + " " + KEY_COCONUTS_PER_DROP + "=" + coconutsPerDrop
+                + " " + KEY_MAX_TIME + "=" + maxTime + " " + KEY_INITIAL_HEALTH + "=" + initialHealth
+                + " " + KEY_AUTO_FIRE_INTERVAL + "=" + autoFireInterval + " " + KEY_HEIGHT + "=" + height
+                + " " + KEY_WIDTH + "=" + width + " " + KEY_RUN_TICKS + "=" + runTicks;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Determines whether a name is one of the configuration keys.
+     */
+    private static boolean isKey(String key) {
+        return switch (key) {
+            case KEY_DROP_INTERVAL, KEY_COCONUTS_PER_DROP, KEY_MAX_TIME, KEY_INITIAL_HEALTH,
+                 KEY_AUTO_FIRE_INTERVAL, KEY_HEIGHT, KEY_WIDTH, KEY_RUN_TICKS -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Reads an int property, or returns the fallback if it is not set.
+     */
+    private static int get(Properties properties, String key, int fallback) {
+        String value = properties.getProperty(key);
+        if (value == null) { return fallback; }
+
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Setting " + key + " is not a number: " + value, e);
+        }
+    }
+
+    /**
+     * Checks that a value is at least the given minimum.
+     *
+     * @return the value
+     * @throws IllegalArgumentException if it is smaller
+     */
+    private static int atLeast(String key, int value, int minimum) {
+        if (value < minimum) {
+            throw new IllegalArgumentException("Setting " + key + " must be at least " + minimum + ": " + value);
+        }
+        return value;
+    }
+}
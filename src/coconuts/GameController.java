@@ -5,22 +5,22 @@ import javafx.scene.control.Label;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Pane;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
-import java.util.HashSet;
-import java.util.Set;
+import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * -----------------------------------------------------------------------------
  * Class Name: GameController
  * Description: JavaFX controller for the Oh Coconuts game. Manages the game's
  *              UI elements, player input, and the main game loop (coconut drops
- *              and crab movement). All GUI-related functionality is here, while
+ *              and crab movement). The loop runs the simulation at a fixed
+ *              tick rate and renders every display frame, interpolating
+ *              positions between ticks. All GUI-related functionality is here, while
  *              core game logic is delegated to OhCoconutsGameManager.
  *
  *              This class handles:
- *              - Key input for crab movement and laser shooting
+ *              - Key input for crab movement and laser shooting, sampled
+ *                once per tick from the held keys
  *              - Starting and pausing the game
  *              - Updating the UI labels for score and health
  *
@@ -36,9 +36,45 @@ public class GameController {
     // CONSTANTS
     // -------------------------------------------------------------------------
 
-    /** Time between calls to step() in milliseconds (30 FPS). */
+    /** Time between simulation ticks in milliseconds (30 ticks per second). */
     private static final double MILLISECONDS_PER_STEP = 1000.0 / 30;
 
+    /** System property choosing the renderer: "nodes" (default) or "canvas". */
+    private static final String RENDERER_PROPERTY = "coconuts.renderer";
+
+    /** System property giving the game's random seed (default: a fresh seed). */
+    private static final String SEED_PROPERTY = "coconuts.seed";
+
+    /** System property naming a file to record a replay of the game into. */
+    private static final String REPLAY_PROPERTY = "coconuts.replay";
+
+    /** System property naming a snapshot file to resume the game from. */
+    private static final String RESTORE_PROPERTY = "coconuts.restore";
+
+    /** System property naming a file to autosave the game to. */
+    private static final String AUTOSAVE_PROPERTY = "coconuts.autosave";
+
+    /** System property turning swept collision tests off ("false") for comparison. */
+    private static final String SWEPT_PROPERTY = "coconuts.swept";
+
+    /** System property setting the number of threads large ticks are split across. */
+    private static final String WORKERS_PROPERTY = "coconuts.workers";
+
+    /** System property naming a GameConfig properties file with the game's rules. */
+    private static final String CONFIG_PROPERTY = "coconuts.config";
+
+    /** System property naming a file to write a state stream for spectators into. */
+    private static final String STREAM_PROPERTY = "coconuts.stream";
+
+    /** System property giving a loopback port that spectators can watch the game on. */
+    private static final String STREAM_PORT_PROPERTY = "coconuts.streamPort";
+
+    /** System property naming a file to dump the metrics to on exit. */
+    private static final String METRICS_PROPERTY = "coconuts.metrics";
+
+    /** Number of frames between refreshes of the metrics overlay. */
+    private static final int OVERLAY_REFRESH_FRAMES = 15;
+
     // -------------------------------------------------------------------------
     // FXML UI ELEMENTS
     // -------------------------------------------------------------------------
@@ -57,28 +93,74 @@ public class GameController {
     // GAME STATE VARIABLES
     // -------------------------------------------------------------------------
 
-    /** Timeline controlling coconut drops and game ticks. */
-    private Timeline coconutTimeline;
+    /** Loop running the game ticks (coconuts dropping) and rendering frames. */
+    private GameLoop gameLoop;
+
+    /** Name of the renderer in use ("nodes" or "canvas"). */
+    private String renderer;
 
     /** Tracks whether the game has started. */
     private boolean started = false;
 
-    /** Stores currently pressed keys (not used extensively here). */
-    private static final Set<KeyCode> activeKeys = new HashSet<>();
+    /** Rules of the game; the playfield size always comes from the FXML. */
+    private GameConfig config = GameConfig.DEFAULT;
+
+    /** Keys the player holds down, sampled once per tick. */
+    private final InputState input = new InputState();
 
     /** Reference to the game manager handling game logic. */
     private OhCoconutsGameManager theGame;
 
+    /** Scoreboard showing the game's statistics in the labels. */
+    private Scoreboard scoreboard;
+
+    /** Recorder writing a replay of the game, or null when not recording. */
+    private ReplayRecorder recorder;
+
+    /** Encoder streaming the game to spectators, or null when not streaming. */
+    private StateStreamEncoder stateStream;
+
+    /** Autosaver writing snapshots of the game, or null when not autosaving. */
+    private Autosaver autosaver;
+
+    /** Overlay showing the game's metrics, toggled with F3. */
+    private Label metricsOverlay;
+
+    /** Gauge of the number of nodes in the game pane. */
+    private MetricsRegistry.Gauge paneNodes;
+
+    /** Frames rendered since the overlay was last refreshed. */
+    private int framesSinceOverlay = 0;
+
 
     // -------------------------------------------------------------------------
     // INITIALIZATION
     // -------------------------------------------------------------------------
 
+    /**
+     * Hands the controller the nodes of a scene built in code, the ones
+     * FXMLLoader would inject. Must be called before initialize().
+     *
+     * @param gamePane          pane holding the game objects
+     * @param theBeach          pane drawn as the beach
+     * @param coconutsDestroyed label for the destroyed coconuts
+     * @param coconutsBeached   label for the beached coconuts
+     * @param health            label for the crab's health
+     */
+    void attach(Pane gamePane, Pane theBeach, Label coconutsDestroyed, Label coconutsBeached, Label health) {
+        this.gamePane = gamePane;
+        this.theBeach = theBeach;
+        this.coconutsDestroyed = coconutsDestroyed;
+        this.coconutsBeached = coconutsBeached;
+        this.health = health;
+    }
+
     /**
      * Initializes the game controller, creating the game manager, setting up
      * the main game loop, and initializing the UI labels.
      * <p>
-     * This method is automatically called by JavaFX after the FXML is loaded.
+     * This method is automatically called by JavaFX after the FXML is loaded,
+     * or by GameScene after it built the scene in code.
      * </p>
      */
     @FXML
@@ -87,25 +169,70 @@ public class GameController {
         if (health.getText().equals("0")) { return; }
 
         // Initialize the game manager with game pane dimensions
-        theGame = new OhCoconutsGameManager(
+        renderer = System.getProperty(RENDERER_PROPERTY, "nodes");
+        GameView view = renderer.equals("canvas")
+                ? new CanvasGameView(gamePane)   // All sprites drawn into one Canvas
+                : new PaneGameView(gamePane);    // One ImageView node per object
+        config = loadConfig().withPlayfield(
                 (int)(gamePane.getPrefHeight() - theBeach.getPrefHeight()),
-                (int)theBeach.getPrefWidth(),
-                gamePane
-        );
+                (int)theBeach.getPrefWidth());
+        theGame = restoreGame(view);
+        if (theGame == null) {
+            String seed = System.getProperty(SEED_PROPERTY);
+            theGame = new OhCoconutsGameManager(
+                    config,
+                    view,
+                    seed != null ? Long.parseLong(seed) : System.nanoTime()
+            );
+        }
+        String swept = System.getProperty(SWEPT_PROPERTY);
+        if (swept != null) {
+            theGame.setSweptCollisions(!swept.equals("false")); // Else as restored, or the default
+        }
+        theGame.setWorkerThreads(Integer.getInteger(WORKERS_PROPERTY, 1));
+        startRecording();
+        startStreaming();
 
+        String autosaveFile = System.getProperty(AUTOSAVE_PROPERTY);
+        if (autosaveFile != null) {
+            autosaver = new Autosaver(Path.of(autosaveFile), theGame, Autosaver.DEFAULT_INTERVAL);
+        }
+
+        scoreboard = new Scoreboard(this, theGame.getScoreboardData());
+        createMetricsOverlay();
         gamePane.setFocusTraversable(true); // Allows pane to receive key events
 
-        // Set up timeline for automatic game ticks (coconuts dropping)
-        coconutTimeline = new Timeline(
-                new KeyFrame(Duration.millis(MILLISECONDS_PER_STEP), (e) -> {
-                    theGame.tryDropCoconut();  // Attempt to drop a new coconut
-                    theGame.advanceOneTick();  // Advance the game state by one tick
-                    if (theGame.done())         // Pause if the game is over
-                        coconutTimeline.pause();
-                })
+        // Set up the fixed-timestep loop for game ticks (coconuts dropping) and rendering
+        gameLoop = new GameLoop(MILLISECONDS_PER_STEP,
+                () -> {
+                    if (recorder != null) {
+                        recorder.beforeTick();  // Write a checkpoint when one is due
+                    }
+                    int autoFireInterval = config.getAutoFireInterval();
+                    if (autoFireInterval > 0 && theGame.getTickCount() % autoFireInterval == 0) {
+                        applyInput(PlayerInput.FIRE); // Automatic fire, recorded like a key press
+                    }
+                    int heldMask = input.sample();
+                    if (recorder != null) {
+                        recorder.recordHeld(heldMask);
+                    }
+                    theGame.tryDropCoconut();          // Attempt to drop a new coconut
+                    theGame.advanceOneTick(heldMask);  // Advance one tick, crawling and firing while keys are held
+                    if (autosaver != null) {
+                        autosaver.afterTick();  // Snapshot in the background when due
+                    }
+                    if (theGame.done()) {       // Pause if the game is over
+                        gameLoop.stop();
+                        System.out.println("Renderer " + renderer + ": " + gameLoop.getFrameStats());
+                    }
+                },
+                alpha -> {
+                    view.render(alpha);   // Draw objects between the last two ticks
+                    scoreboard.refresh(); // Update labels once per frame, if anything changed
+                    refreshMetricsOverlay();
+                }
         );
 
-        coconutTimeline.setCycleCount(Timeline.INDEFINITE); // Loop indefinitely
         coconutsDestroyed.setText("Coconuts Destroyed: 0"); // Initialize score label
     }
 
@@ -117,31 +244,248 @@ public class GameController {
     /**
      * Handles key press events for player control.
      * <p>
-     * - LEFT / RIGHT arrows move the crab horizontally.
-     * - UP arrow triggers a laser shot.
+     * - LEFT / RIGHT arrows move the crab horizontally while held.
+     * - UP arrow fires lasers while held, at most one every few ticks.
      * - SPACE starts or pauses the game.
+     * - F3 shows or hides the metrics overlay.
      * </p>
+     * Held keys only take effect when the next tick samples them, so the
+     * key repeat rate makes no difference.
      *
      * @param keyEvent the KeyEvent triggered by a player key press
      */
     @FXML
     public void onKeyPressed(KeyEvent keyEvent) {
-        if (theGame.getCrab() == null) { return; } // No crab to control
-
-        if (keyEvent.getCode() == KeyCode.RIGHT && !theGame.done() && started) {
-            theGame.getCrab().crawl(10); // Move crab right
-        } else if (keyEvent.getCode() == KeyCode.LEFT && !theGame.done() && started) {
-            theGame.getCrab().crawl(-10); // Move crab left
-        } else if (keyEvent.getCode() == KeyCode.UP && !theGame.done() && started) {
-            theGame.tryShootLaser(); // Fire laser
-        } else if (keyEvent.getCode() == KeyCode.SPACE) {
+        PlayerInput held = heldInput(keyEvent.getCode());
+        if (held != null) {
+            input.press(held);
+        } else if (keyEvent.getCode() == KeyCode.F3) {
+            metricsOverlay.setVisible(!metricsOverlay.isVisible()); // Toggle the metrics overlay
+            framesSinceOverlay = OVERLAY_REFRESH_FRAMES;
+        } else if (keyEvent.getCode() == KeyCode.SPACE && theGame.getCrab() != null) {
+            applyInput(PlayerInput.PAUSE); // Recorded so replays show the pauses
             if (!started) {
-                coconutTimeline.play(); // Start game
+                gameLoop.start(); // Start game
                 started = true;
             } else {
-                coconutTimeline.pause(); // Pause game
+                gameLoop.stop(); // Pause game
                 started = false;
+                System.out.println("Renderer " + renderer + ": " + gameLoop.getFrameStats());
+            }
+        }
+    }
+
+    /**
+     * Handles key release events, ending held crab movement and firing.
+     *
+     * @param keyEvent the KeyEvent triggered by a player key release
+     */
+    @FXML
+    public void onKeyReleased(KeyEvent keyEvent) {
+        PlayerInput held = heldInput(keyEvent.getCode());
+        if (held != null) {
+            input.release(held);
+        }
+    }
+
+    /**
+     * Returns the held action controlled by a key.
+     *
+     * @param code the key
+     * @return LEFT, RIGHT or FIRE, or null if the key does not control one
+     */
+    private static PlayerInput heldInput(KeyCode code) {
+        return switch (code) {
+            case LEFT -> PlayerInput.LEFT;
+            case RIGHT -> PlayerInput.RIGHT;
+            case UP -> PlayerInput.FIRE;
+            default -> null;
+        };
+    }
+
+
+    /**
+     * Applies a player action to the game and records it in the replay.
+     *
+     * @param input the action to apply
+     */
+    private void applyInput(PlayerInput input) {
+        input.apply(theGame);
+        if (recorder != null) {
+            recorder.recordInput(input);
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // METRICS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates the hidden metrics overlay on top of the game pane.
+     */
+    private void createMetricsOverlay() {
+        paneNodes = theGame.getMetrics().gauge("scene.nodes");
+
+        metricsOverlay = new Label();
+        metricsOverlay.setStyle("-fx-font-family: monospace; -fx-font-size: 10; -fx-text-fill: white;"
+                + " -fx-background-color: rgba(0,0,0,0.6); -fx-padding: 4;");
+        metricsOverlay.setLayoutX(210);
+        metricsOverlay.setLayoutY(10);
+        metricsOverlay.setMouseTransparent(true);
+        metricsOverlay.setViewOrder(-1); // Draw above the sprites
+        metricsOverlay.setVisible(false);
+        gamePane.getChildren().add(metricsOverlay);
+    }
+
+    /**
+     * Samples the scene-graph size and, a few times per second, rewrites the
+     * overlay text if the overlay is shown.
+     */
+    private void refreshMetricsOverlay() {
+        paneNodes.set(gamePane.getChildren().size());
+        if (!metricsOverlay.isVisible() || ++framesSinceOverlay < OVERLAY_REFRESH_FRAMES) { return; }
+
+        framesSinceOverlay = 0;
+        metricsOverlay.setText(gameLoop.getFrameStats() + "\n" + theGame.getMetrics().report());
+    }
+
+    /**
+     * Writes the metrics to the file named by the coconuts.metrics property,
+     * if set.
+     */
+    private void dumpMetrics() {
+        String metricsFile = System.getProperty(METRICS_PROPERTY);
+        if (metricsFile == null) { return; }
+
+        try {
+            theGame.getMetrics().dump(Path.of(metricsFile));
+            System.out.println("Metrics written to " + metricsFile);
+        } catch (IOException e) {
+            System.out.println("Could not write metrics: " + e.getMessage());
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // SAVING AND RECORDING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Loads the game's rules from the file named by the coconuts.config
+     * property, if set.
+     *
+     * @return the loaded rules, or the normal rules if none are configured
+     */
+    private GameConfig loadConfig() {
+        String configFile = System.getProperty(CONFIG_PROPERTY);
+        if (configFile == null) { return GameConfig.DEFAULT; }
+
+        try {
+            GameConfig loaded = GameConfig.load(Path.of(configFile));
+            System.out.println("Game rules from " + configFile + ": " + loaded);
+            return loaded;
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not load game rules: " + e.getMessage());
+            return GameConfig.DEFAULT;
+        }
+    }
+
+    /**
+     * Restores the game from the snapshot named by the coconuts.restore
+     * property, if any.
+     *
+     * @param view the view used to display game objects
+     * @return the restored game, or null to start a new one
+     */
+    private OhCoconutsGameManager restoreGame(GameView view) {
+        String snapshotFile = System.getProperty(RESTORE_PROPERTY);
+        if (snapshotFile == null) { return null; }
+
+        try {
+            long start = System.nanoTime();
+            OhCoconutsGameManager game = SnapshotFile.restore(Path.of(snapshotFile), view);
+            System.out.printf("Restored tick %d from %s in %.2f ms%n",
+                    game.getTickCount(), snapshotFile, (System.nanoTime() - start) / 1e6);
+            return game;
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not restore game: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Starts recording a replay if the coconuts.replay property names a file.
+     */
+    private void startRecording() {
+        String replayFile = System.getProperty(REPLAY_PROPERTY);
+        if (replayFile == null) { return; }
+
+        try {
+            recorder = new ReplayRecorder(Path.of(replayFile), theGame, ReplayRecorder.DEFAULT_CHECKPOINT_INTERVAL);
+            System.out.println("Recording replay to " + replayFile + " (seed " + theGame.getSeed() + ")");
+        } catch (IOException e) {
+            System.out.println("Could not record replay: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Starts streaming the game to spectators, into the file named by the
+     * coconuts.stream property or on the loopback port given by the
+     * coconuts.streamPort property.
+     */
+    private void startStreaming() {
+        String streamFile = System.getProperty(STREAM_PROPERTY);
+        Integer streamPort = Integer.getInteger(STREAM_PORT_PROPERTY);
+        if (streamFile == null && streamPort == null) { return; }
+
+        try {
+            StateSink sink;
+            if (streamPort != null) {
+                SocketStateSink socketSink = new SocketStateSink(streamPort);
+                System.out.println("Spectators can watch on port " + socketSink.getPort());
+                sink = socketSink;
+            } else {
+                sink = new FileStateSink(Path.of(streamFile));
+                System.out.println("Streaming the game to " + streamFile);
+            }
+            stateStream = new StateStreamEncoder(theGame, sink, StateStream.DEFAULT_KEYFRAME_INTERVAL);
+            theGame.setStateStream(stateStream);
+        } catch (IOException e) {
+            System.out.println("Could not stream the game: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Dumps the metrics, saves the game a last time and finishes the replay
+     * recording and state stream, if each is enabled. Called when the
+     * application exits.
+     */
+    public void shutdown() {
+        dumpMetrics();
+
+        if (autosaver != null) {
+            autosaver.close();
+            autosaver = null;
+        }
+
+        if (recorder != null) {
+            try {
+                recorder.close();
+            } catch (IOException e) {
+                System.out.println("Could not finish replay: " + e.getMessage());
+            }
+            recorder = null;
+        }
+
+        if (stateStream != null) {
+            theGame.setStateStream(null);
+            try {
+                stateStream.close();
+            } catch (IOException e) {
+                System.out.println("Could not finish state stream: " + e.getMessage());
             }
+            stateStream = null;
         }
     }
 
@@ -0,0 +1,51 @@
+package coconuts;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: GameEvents
+ * Description: Tells the game whether Flight Recorder is running, so the game's
+ *              JFR events are only created when they can be recorded. Creating
+ *              the first event object starts Flight Recorder's internals, which
+ *              costs a few hundred milliseconds; when nobody is recording, the
+ *              game never touches the event classes at all.
+ *              <p>
+ *              Recordings started later (e.g. with jcmd JFR.start) are picked
+ *              up through a FlightRecorderListener.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+final class GameEvents {
+
+    /** Whether Flight Recorder has been started in this JVM. */
+    private static volatile boolean recorderRunning = FlightRecorder.isInitialized();
+
+    static {
+        if (!recorderRunning) {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recorderInitialized(FlightRecorder recorder) {
+                    recorderRunning = true;
+                }
+            });
+        }
+    }
+
+    private GameEvents() {
+        // Static flag only
+    }
+
+    /**
+     * Determines whether game events should be created.
+     *
+     * @return true once Flight Recorder is running
+     */
+    static boolean isRecorderRunning() {
+        return recorderRunning;
+    }
+}
@@ -0,0 +1,144 @@
+package coconuts;
+
+import javafx.animation.AnimationTimer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: GameLoop
+ * Description: Fixed-timestep game loop driven by the JavaFX pulse. Every
+ *              frame, the time since the previous frame is added to an
+ *              accumulator and the simulation is advanced in whole ticks of a
+ *              fixed length until the accumulator is used up, so the game
+ *              runs at the same speed whatever the display's refresh rate
+ *              and catches up after a slow frame. The frame is then rendered
+ *              with the fraction of a tick left in the accumulator, which
+ *              views use to interpolate positions between ticks.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class GameLoop extends AnimationTimer {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** Most ticks run in one frame; after a long stall the game slows down instead. */
+    private static final int MAX_TICKS_PER_FRAME = 5;
+
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Length of one simulation tick in nanoseconds. */
+    private final long nanosPerTick;
+
+    /** Advances the simulation by one tick. */
+    private final Runnable tick;
+
+    /** Renders a frame given the fraction of a tick since the last tick. */
+    private final DoubleConsumer render;
+
+    /** Time of the previous frame, or -1 before the first frame. */
+    private long previousFrame = -1;
+
+    /** Simulation time not yet covered by a tick, in nanoseconds. */
+    private long accumulator = 0;
+
+    /** Frames handled, and the total and worst time spent ticking and rendering them. */
+    private long frames = 0, totalFrameNanos = 0, worstFrameNanos = 0;
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates a stopped game loop.
+     *
+     * @param millisPerTick length of one simulation tick in milliseconds
+     * @param tick          advances the simulation by one tick
+     * @param render        renders a frame given the fraction of a tick (0 to 1)
+     *                      that has passed since the last tick
+     */
+    public GameLoop(double millisPerTick, Runnable tick, DoubleConsumer render) {
+        this.nanosPerTick = Math.round(millisPerTick * 1_000_000);
+        this.tick = tick;
+        this.render = render;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // LOOP CONTROL
+    // -------------------------------------------------------------------------
+
+    /**
+     * Starts (or resumes) the loop. Time spent stopped is not simulated.
+     */
+    @Override
+    public void start() {
+        previousFrame = -1;
+        accumulator = 0;
+        super.start();
+    }
+
+    /**
+     * Runs as many ticks as the elapsed time calls for, then renders.
+     *
+     * @param now timestamp of the current frame in nanoseconds
+     */
+    @Override
+    public void handle(long now) {
+        long frameStart = System.nanoTime();
+        FrameEvent frameEvent = GameEvents.isRecorderRunning() ? new FrameEvent() : null;
+        if (frameEvent != null) {
+            frameEvent.begin();
+        }
+        if (previousFrame < 0) {
+            previousFrame = now; // First frame after start: nothing has elapsed yet
+        }
+        accumulator += now - previousFrame;
+        previousFrame = now;
+
+        int ticks = 0;
+        while (accumulator >= nanosPerTick && ticks < MAX_TICKS_PER_FRAME) {
+            tick.run();
+            accumulator -= nanosPerTick;
+            ticks++;
+        }
+        if (accumulator >= nanosPerTick) {
+            accumulator = nanosPerTick - 1; // Too far behind: drop the rest rather than spiral
+        }
+
+        render.accept((double) accumulator / nanosPerTick);
+
+        if (frameEvent != null && frameEvent.shouldCommit()) {
+            frameEvent.ticks = ticks;
+            frameEvent.commit();
+        }
+
+        long frameNanos = System.nanoTime() - frameStart;
+        frames++;
+        totalFrameNanos += frameNanos;
+        worstFrameNanos = Math.max(worstFrameNanos, frameNanos);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // FRAME STATISTICS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Describes how long frames took to tick and render so far, for
+     * comparing views.
+     *
+     * @return the number of frames and their average and worst time
+     */
+    public String getFrameStats() {
+        return String.format("%d frames, average %.3f ms, worst %.3f ms",
+                frames, frames == 0 ? 0 : totalFrameNanos / 1e6 / frames, worstFrameNanos / 1e6);
+    }
+}
@@ -0,0 +1,89 @@
+package coconuts;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: GameRandom
+ * Description: Small seeded random number generator (SplitMix64) owned by a
+ *              single game. The same seed always produces the same sequence,
+ *              so a game can be reproduced from its seed and the player's
+ *              inputs. The whole generator state is one long, which lets
+ *              snapshots save and restore it exactly.
+ *              <p>
+ *              Not thread-safe; each game uses its own instance.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class GameRandom {
+
+    /** Increment added to the state for each number (the 64-bit golden ratio). */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /** Current generator state. */
+    private long state;
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates a generator starting from the given seed.
+     *
+     * @param seed the seed
+     */
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // RANDOM VALUES
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the next pseudo-random long.
+     *
+     * @return a uniformly distributed long
+     */
+    public long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the next pseudo-random double, like Math.random().
+     *
+     * @return a uniformly distributed double in [0, 1)
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // STATE
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the generator state, for snapshots.
+     *
+     * @return the current state
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restores a state previously returned by getState().
+     *
+     * @param state the state to continue from
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+}
@@ -0,0 +1,109 @@
+package coconuts;
+
+import javafx.geometry.Pos;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.effect.ColorAdjust;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.RowConstraints;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: GameScene
+ * Description: Builds the game's scene graph in code, node for node the same
+ *              as coconuts.fxml, and wires it to a GameController. Skipping
+ *              FXMLLoader saves parsing the FXML and setting up the
+ *              controller by reflection, which is a large part of the time
+ *              from launch to the first frame.
+ *              <p>
+ *              coconuts.fxml stays the reference layout and can still be
+ *              used with -Dcoconuts.scene=fxml; changes to one have to be
+ *              made to the other as well.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+final class GameScene {
+
+    private GameScene() {
+    }
+
+    /**
+     * Creates the scene graph, hands its nodes to the controller and
+     * initializes the controller, as FXMLLoader would.
+     *
+     * @param controller the controller to wire the scene to
+     * @return the root of the scene graph
+     */
+    static Parent build(GameController controller) {
+        // Score labels
+        Label coconutsDestroyed = scoreLabel("Coconuts Destroyed: 0");
+        Label coconutsBeached = scoreLabel("Coconuts Beached: 0");
+        Label health = scoreLabel("Health: 0");
+
+        VBox scores = new VBox(10.0, coconutsDestroyed, coconutsBeached, health);
+        scores.setLayoutX(14.0);
+        scores.setLayoutY(21.0);
+        scores.setPrefSize(187.0, 95.0);
+        scores.setStyle("-fx-background-radius: 6; -fx-background-color: rgba(255,255,255,0.85); -fx-padding: 6;"
+                + " -fx-border-color: #ddd; -fx-border-radius: 6;");
+        scores.setEffect(new ColorAdjust());
+
+        Label hint = new Label("Press arrow keys to move coconut");
+        hint.setLayoutX(50.0);
+        hint.setLayoutY(550.0);
+        hint.setScaleZ(2.0);
+        hint.setTranslateZ(1.0);
+        hint.setTextFill(Color.DARKRED);
+        hint.setFont(new Font("Poor Richard", 18.0));
+
+        // Sky with the game objects, and the beach below it
+        Pane gamePane = new Pane(hint, scores);
+        gamePane.setId("theGame");
+        gamePane.setPrefSize(600.0, 550.0);
+        gamePane.setStyle("-fx-background-color: linear-gradient(to bottom right, derive(skyblue, 20%),"
+                + " derive(skyblue, -40%));");
+
+        Pane theBeach = new Pane();
+        theBeach.setId("theBeach");
+        theBeach.setPrefSize(600.0, 50.0);
+        theBeach.setStyle("-fx-background-color: linear-gradient(to bottom right, derive(tan, 30%),"
+                + " derive(tan, -50%));");
+
+        VBox skyAndSand = new VBox(gamePane, theBeach);
+        skyAndSand.setPrefSize(600.0, 600.0);
+
+        GridPane root = new GridPane();
+        root.setAlignment(Pos.CENTER);
+        root.setHgap(10.0);
+        root.setVgap(10.0);
+        root.getColumnConstraints().add(new ColumnConstraints());
+        root.getRowConstraints().add(new RowConstraints());
+        root.add(skyAndSand, 0, 0);
+        root.setOnKeyPressed(controller::onKeyPressed);
+        root.setOnKeyReleased(controller::onKeyReleased);
+
+        controller.attach(gamePane, theBeach, coconutsDestroyed, coconutsBeached, health);
+        controller.initialize();
+        return root;
+    }
+
+    /**
+     * Creates one of the labels of the scoreboard.
+     *
+     * @param text the initial text
+     * @return the label
+     */
+    private static Label scoreLabel(String text) {
+        Label label = new Label(text);
+        label.setFont(new Font(14.0));
+        return label;
+    }
+}
@@ -0,0 +1,278 @@
+package coconuts;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: GameSession
+ * Description: One remote client of a SessionServer and the headless game it
+ *              plays. Holds the connection's read and write buffers, decodes
+ *              the client's SessionProtocol messages, and is ticked by the
+ *              server like GameController ticks the local game: drop
+ *              coconuts, then advance one tick with the held keys.
+ *              <p>
+ *              Writes never block. If the client has not taken the previous
+ *              STATE message yet when the next one is due, the new one is
+ *              skipped rather than queued, so a slow client costs the server
+ *              one buffer and never delays the other sessions.
+ *              </p>
+ *              <p>
+ *              Only used by the server's thread.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+final class GameSession {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** Size of the read buffer; client messages are a few bytes each. */
+    private static final int READ_BUFFER_BYTES = 256;
+
+    /** Initial size of the write buffer, enough for a STATE with a few hundred entities. */
+    private static final int WRITE_BUFFER_BYTES = 2048;
+
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Id given to the session by the server. */
+    private final int id;
+
+    /** Connection to the client. */
+    private final SocketChannel channel;
+
+    /** Registration of the channel with the server's selector. */
+    private final SelectionKey key;
+
+    /** Configuration the session's game is created with. */
+    private final GameConfig config;
+
+    /** Keys the client holds down, from its KEY_DOWN and KEY_UP messages. */
+    private final InputState input = new InputState();
+
+    /** Bytes received but not yet decoded, in write mode. */
+    private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_BYTES);
+
+    /** Bytes to send that the channel has not taken yet, in write mode. */
+    private ByteBuffer out = ByteBuffer.allocate(WRITE_BUFFER_BYTES);
+
+    /** The session's game, or null until the client has joined. */
+    private OhCoconutsGameManager game;
+
+    /** Whether GAME_OVER has been queued; the session closes once it is sent. */
+    private boolean finished = false;
+
+    /** Number of STATE messages sent and skipped because the client was behind. */
+    private long statesSent = 0, statesSkipped = 0;
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates a session for a newly accepted connection.
+     *
+     * @param id      the id given to the session
+     * @param channel the client's connection, non-blocking
+     * @param key     the channel's registration with the server's selector
+     * @param config  the configuration games are created with
+     */
+    GameSession(int id, SocketChannel channel, SelectionKey key, GameConfig config) {
+        this.id = id;
+        this.channel = channel;
+        this.key = key;
+        this.config = config;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // ACCESSORS
+    // -------------------------------------------------------------------------
+
+    int getId() {
+        return id;
+    }
+
+    OhCoconutsGameManager getGame() {
+        return game;
+    }
+
+    long getStatesSent() {
+        return statesSent;
+    }
+
+    long getStatesSkipped() {
+        return statesSkipped;
+    }
+
+    /**
+     * Determines whether the session is over: GAME_OVER has been sent, or
+     * the client left.
+     *
+     * @return true if the server should close the session
+     */
+    boolean isOver() {
+        return (finished && out.position() == 0) || !channel.isOpen();
+    }
+
+
+    // -------------------------------------------------------------------------
+    // READING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Reads what the client has sent and handles every complete message.
+     *
+     * @return false if the client disconnected or left, or sent a malformed message
+     * @throws IOException if reading from the channel fails
+     */
+    boolean read() throws IOException {
+        if (channel.read(in) < 0) { return false; }
+
+        in.flip();
+        try {
+            for (int length = SessionProtocol.nextMessageLength(in); length >= 0;
+                 length = SessionProtocol.nextMessageLength(in)) {
+                int next = in.position() + SessionProtocol.LENGTH_BYTES + length;
+                in.position(in.position() + SessionProtocol.LENGTH_BYTES);
+                if (length == 0 || !handle(in.get(), length - 1)) { return false; }
+
+                in.position(next);
+            }
+            return in.remaining() < in.capacity(); // Else a message too long for the buffer
+        } finally {
+            in.compact();
+        }
+    }
+
+    /**
+     * Handles one client message.
+     *
+     * @param type          the message type
+     * @param payloadLength bytes of the message after its type
+     * @return false if the client left or the message is malformed
+     */
+    private boolean handle(byte type, int payloadLength) throws IOException {
+        switch (type) {
+            case SessionProtocol.JOIN -> {
+                if (game != null || payloadLength != 8) { return false; }
+
+                game = new OhCoconutsGameManager(config, GameView.NONE, in.getLong());
+                ensureRoom(SessionProtocol.LENGTH_BYTES + 9);
+                SessionProtocol.putWelcome(out, id, game);
+                flush();
+            }
+            case SessionProtocol.KEY_DOWN, SessionProtocol.KEY_UP -> {
+                if (payloadLength != 1) { return false; }
+
+                PlayerInput pressed;
+                try {
+                    pressed = PlayerInput.fromCode(in.get());
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+                if (type == SessionProtocol.KEY_DOWN) {
+                    input.press(pressed);
+                } else {
+                    input.release(pressed);
+                }
+            }
+            case SessionProtocol.LEAVE -> {
+                return false;
+            }
+            default -> {
+                return false; // Unknown message type
+            }
+        }
+        return true;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // TICKING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Advances the session's game by one tick and sends the new state, then
+     * GAME_OVER if the game has ended: the crab died, or the game is done.
+     * Does nothing before the client has joined or after the game is over.
+     *
+     * @throws IOException if writing to the channel fails
+     */
+    void tick() throws IOException {
+        if (game == null || finished || !channel.isOpen()) { return; }
+
+        game.tryDropCoconut();
+        game.advanceOneTick(input.sample()); // Held keys apply within the tick, as in GameController
+
+        // Like BatchRunner, end with the crab; no more coconuts drop once it is gone
+        boolean over = game.getCrab() == null || game.done();
+        if (out.position() > 0 && !over) {
+            statesSkipped++; // The client has not taken the last state yet
+            return;
+        }
+        ensureRoom(SessionProtocol.stateBytes(game) + SessionProtocol.LENGTH_BYTES + 1);
+        SessionProtocol.putState(out, game);
+        statesSent++;
+        if (over) {
+            SessionProtocol.putGameOver(out);
+            finished = true;
+        }
+        flush();
+    }
+
+
+    // -------------------------------------------------------------------------
+    // WRITING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes as much pending output as the channel takes without blocking,
+     * and asks the selector to report when the channel can take the rest.
+     *
+     * @throws IOException if writing to the channel fails
+     */
+    void flush() throws IOException {
+        out.flip();
+        channel.write(out);
+        out.compact();
+        key.interestOps(out.position() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+    }
+
+    /**
+     * Closes the connection. The game is dropped with the session.
+     */
+    void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Nothing more to send or receive either way
+        }
+    }
+
+    /**
+     * Grows the write buffer, keeping its content, so that at least the
+     * given number of bytes can be added.
+     *
+     * @param bytes the number of bytes about to be written
+     */
+    private void ensureRoom(int bytes) {
+        if (out.remaining() >= bytes) { return; }
+
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + bytes));
+        out.flip();
+        larger.put(out);
+        out = larger;
+    }
+}
@@ -0,0 +1,247 @@
+package coconuts;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: GameSnapshot
+ * Description: Complete state of a game between two ticks: the random number
+ *              generator, tick counters, scores, the game's drop rules and
+ *              collision mode, and every entity's columns in slot order. Taken with OhCoconutsGameManager.snapshot()
+ *              and turned back into a running game with restore().
+ *              <p>
+ *              Snapshots have a compact binary form (a magic number and
+ *              format version followed by fixed-width fields) used as replay
+ *              checkpoints.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class GameSnapshot {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** First four bytes of every encoded snapshot ("COCS"). */
+    static final int MAGIC = 0x434F4353;
+
+    /** Version of the binary format written by encode(). */
+    static final int VERSION = 4;
+
+    /** Encoded bytes before the entity columns, and per entity. */
+    private static final int HEADER_BYTES = 4 + 4 + 4 + 4 + 8 + 8 + 4 + 4 + 4 + 4 + 4 + 4 + 4 + 4 + 4 + 4 + 1 + 1 + 4;
+    private static final int ENTITY_BYTES = 1 + 4 * 6;
+
+
+    // -------------------------------------------------------------------------
+    // STATE
+    // -------------------------------------------------------------------------
+
+    /** Dimensions of the game area. */
+    final int height, width;
+
+    /** Seed the game started from, and the generator state at capture time. */
+    long seed, randomState;
+
+    /** Game tick (drops and shots) and number of ticks advanced. */
+    int gameTick, tickCount;
+
+    /** Number of coconuts dropped and not yet destroyed. */
+    int coconutsInFlight;
+
+    /** First tick at which the held fire key may fire again. */
+    int nextShotTick;
+
+    /** Ticks between coconut drops, coconuts per drop and game length (see GameConfig). */
+    int dropInterval, coconutsPerDrop, maxTime;
+
+    /** Scoreboard statistics. */
+    int beachedCoconuts, destroyedCoconuts, health;
+
+    /** Whether the crab is still alive. */
+    boolean crabAlive;
+
+    /** Whether hits are tested along each object's path (see setSweptCollisions). */
+    boolean sweptCollisions;
+
+    /** Number of entities, and their columns in slot order. */
+    final int entityCount;
+    final int[] type, x, y, previousX, previousY, entityWidth, velocityY;
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates an empty snapshot with room for the given number of entities.
+     *
+     * @param height      the vertical size of the game area
+     * @param width       the horizontal size of the game area
+     * @param entityCount number of entities in the game
+     */
+    GameSnapshot(int height, int width, int entityCount) {
+        this.height = height;
+        this.width = width;
+        this.entityCount = entityCount;
+        type = new int[entityCount];
+        x = new int[entityCount];
+        y = new int[entityCount];
+        previousX = new int[entityCount];
+        previousY = new int[entityCount];
+        entityWidth = new int[entityCount];
+        velocityY = new int[entityCount];
+    }
+
+
+    // -------------------------------------------------------------------------
+    // ACCESSORS
+    // -------------------------------------------------------------------------
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // RESTORE
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates a running game that continues from this snapshot.
+     *
+     * @param view the view used to display game objects
+     * @return the restored game
+     */
+    public OhCoconutsGameManager restore(GameView view) {
+        return new OhCoconutsGameManager(this, view);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // BINARY FORM
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the number of bytes encode() writes for this snapshot.
+     *
+     * @return the encoded size in bytes
+     */
+    public int encodedSize() {
+        return HEADER_BYTES + entityCount * ENTITY_BYTES;
+    }
+
+    /**
+     * Writes this snapshot at the buffer's position.
+     *
+     * @param buffer buffer with at least encodedSize() bytes remaining
+     */
+    public void encode(ByteBuffer buffer) {
+        buffer.putInt(MAGIC).putInt(VERSION)
+                .putInt(height).putInt(width)
+                .putLong(seed).putLong(randomState)
+                .putInt(gameTick).putInt(tickCount).putInt(coconutsInFlight).putInt(nextShotTick)
+                .putInt(dropInterval).putInt(coconutsPerDrop).putInt(maxTime)
+                .putInt(beachedCoconuts).putInt(destroyedCoconuts).putInt(health)
+                .put((byte) (crabAlive ? 1 : 0))
+                .put((byte) (sweptCollisions ? 1 : 0))
+                .putInt(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            buffer.put((byte) type[i])
+                    .putInt(x[i]).putInt(y[i])
+                    .putInt(previousX[i]).putInt(previousY[i])
+                    .putInt(entityWidth[i]).putInt(velocityY[i]);
+        }
+    }
+
+    /**
+     * Returns this snapshot in its binary form.
+     *
+     * @return the encoded snapshot
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedSize());
+        encode(buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Reads a snapshot written by encode() from the buffer's position.
+     *
+     * @param buffer buffer positioned at an encoded snapshot
+     * @return the decoded snapshot
+     * @throws IllegalArgumentException if the data is not a snapshot or has
+     *                                  an unsupported version
+     */
+    public static GameSnapshot decode(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a game snapshot");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported snapshot version " + version);
+            }
+
+            int height = buffer.getInt();
+            int width = buffer.getInt();
+            long seed = buffer.getLong();
+            long randomState = buffer.getLong();
+            int gameTick = buffer.getInt();
+            int tickCount = buffer.getInt();
+            int coconutsInFlight = buffer.getInt();
+            int nextShotTick = buffer.getInt();
+            int dropInterval = buffer.getInt();
+            int coconutsPerDrop = buffer.getInt();
+            int maxTime = buffer.getInt();
+            if (dropInterval < 1) {
+                throw new IllegalArgumentException("Corrupt snapshot drop interval " + dropInterval);
+            }
+            int beached = buffer.getInt();
+            int destroyed = buffer.getInt();
+            int health = buffer.getInt();
+            boolean crabAlive = buffer.get() != 0;
+            boolean sweptCollisions = buffer.get() != 0;
+            int entityCount = buffer.getInt();
+            if (entityCount < 0 || (long) entityCount * ENTITY_BYTES > buffer.remaining()) {
+                throw new IllegalArgumentException("Corrupt snapshot entity count " + entityCount);
+            }
+
+            GameSnapshot snapshot = new GameSnapshot(height, width, entityCount);
+            snapshot.seed = seed;
+            snapshot.randomState = randomState;
+            snapshot.gameTick = gameTick;
+            snapshot.tickCount = tickCount;
+            snapshot.coconutsInFlight = coconutsInFlight;
+            snapshot.nextShotTick = nextShotTick;
+            snapshot.dropInterval = dropInterval;
+            snapshot.coconutsPerDrop = coconutsPerDrop;
+            snapshot.maxTime = maxTime;
+            snapshot.beachedCoconuts = beached;
+            snapshot.destroyedCoconuts = destroyed;
+            snapshot.health = health;
+            snapshot.crabAlive = crabAlive;
+            snapshot.sweptCollisions = sweptCollisions;
+            for (int i = 0; i < entityCount; i++) {
+                snapshot.type[i] = buffer.get();
+                snapshot.x[i] = buffer.getInt();
+                snapshot.y[i] = buffer.getInt();
+                snapshot.previousX[i] = buffer.getInt();
+                snapshot.previousY[i] = buffer.getInt();
+                snapshot.entityWidth[i] = buffer.getInt();
+                snapshot.velocityY[i] = buffer.getInt();
+            }
+            return snapshot;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated game snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package coconuts;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Interface Name: GameView
+ * Description: Defines the view sink that OhCoconutsGameManager reports its
+ *              object lifecycle to. The game manager only talks to this
+ *              interface, so the simulation core can run without a JavaFX
+ *              toolkit (e.g. headless batch runs) and any number of views can
+ *              be written on top of it.
+ *              <p>
+ *              All methods default to doing nothing; NONE is the headless
+ *              view used when no rendering is required.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public interface GameView {
+
+    /** View that ignores every notification, used for headless games. */
+    GameView NONE = new GameView() { };
+
+    /**
+     * Called when an object has been registered with the game.
+     *
+     * @param object the newly registered object
+     */
+    public default void objectAdded(IslandObject object) {
+        // Default implementation does nothing
+    }
+
+    /**
+     * Called when an object has been removed from the game.
+     *
+     * @param object the removed object
+     */
+    public default void objectRemoved(IslandObject object) {
+        // Default implementation does nothing
+    }
+
+    /**
+     * Called when an object's position has been changed outside the tick's
+     * step, e.g. when the crab crawls. Objects moved by their velocity are
+     * not reported; views read their positions when they render.
+     *
+     * @param object the object that moved
+     */
+    public default void objectMoved(IslandObject object) {
+        // Default implementation does nothing
+    }
+
+    /**
+     * Called once per rendered frame, which may fall between two ticks.
+     * Views that draw positions should use IslandObject.getRenderX/Y with
+     * the given alpha so that movement looks smooth at any frame rate.
+     *
+     * @param alpha fraction of a tick that has passed since the last tick (0 to 1)
+     */
+    public default void render(double alpha) {
+        // Default implementation does nothing
+    }
+
+    /**
+     * Called at the end of every tick, and once the game is set up, after
+     * the tick's last objectAdded() and objectRemoved() call. Views that
+     * batch changes apply them here, all at once.
+     */
+    public default void commit() {
+        // Default implementation does nothing
+    }
+
+    /**
+     * Called when an object stays in the game but should no longer be shown
+     * (e.g. the crab after it has been killed).
+     *
+     * @param object the object to hide
+     */
+    public default void objectHidden(IslandObject object) {
+        // Default implementation does nothing
+    }
+}
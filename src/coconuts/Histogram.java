@@ -0,0 +1,108 @@
+package coconuts;
+
+import java.util.Arrays;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: Histogram
+ * Description: Cheap histogram of non-negative long values (durations in
+ *              nanoseconds or per-tick counts). Values are counted in
+ *              power-of-two buckets, so recording is a few arithmetic
+ *              operations with no allocation, and percentiles are accurate
+ *              to within a factor of two. The exact mean and maximum are kept
+ *              as well.
+ *              <p>
+ *              Not thread-safe; a histogram is recorded by one thread (the
+ *              game's tick thread).
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class Histogram {
+
+    /** Bucket i counts values whose highest set bit is bit i-1 (bucket 0 counts zeros). */
+    private final long[] buckets = new long[65];
+
+    /** Number of values, their sum, and the largest value recorded. */
+    private long count = 0, sum = 0, max = 0;
+
+    /** Most recently recorded value. */
+    private long last = 0;
+
+
+    // -------------------------------------------------------------------------
+    // RECORDING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Records one value.
+     *
+     * @param value the value (negative values are counted as 0)
+     */
+    public void record(long value) {
+        value = Math.max(0, value);
+        buckets[64 - Long.numberOfLeadingZeros(value)]++;
+        count++;
+        sum += value;
+        max = Math.max(max, value);
+        last = value;
+    }
+
+    /**
+     * Forgets every recorded value.
+     */
+    public void reset() {
+        Arrays.fill(buckets, 0);
+        count = sum = max = last = 0;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // STATISTICS
+    // -------------------------------------------------------------------------
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getLast() {
+        return last;
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     *
+     * @return the mean, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns an upper bound for the given percentile: the top of the bucket
+     * the percentile falls in, capped at the maximum.
+     *
+     * @param percentile the percentile (0 to 100)
+     * @return the approximate value at that percentile
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) { return 0; }
+
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= Math.max(1, rank)) {
+                long upper = i == 0 ? 0 : i == 64 ? Long.MAX_VALUE : (1L << i) - 1;
+                return Math.min(upper, max);
+            }
+        }
+        return max;
+    }
+}
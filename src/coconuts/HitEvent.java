@@ -30,6 +30,9 @@ public class HitEvent extends AbstractSubject {
     /** List of observers that will be notified when this hit event occurs. */
     private final List<Observer> observers;
 
+    /** Total number of observer update() calls made so far. */
+    private long notificationCount = 0;
+
 
     // -------------------------------------------------------------------------
     // CONSTRUCTOR
@@ -76,5 +79,15 @@ public class HitEvent extends AbstractSubject {
         for (Observer o : observers) {
             o.update(); // Notify each observer
         }
+        notificationCount += observers.size();
+    }
+
+    /**
+     * Returns how many observer notifications have been made so far.
+     *
+     * @return the total number of update() calls
+     */
+    public long getNotificationCount() {
+        return notificationCount;
     }
 }
@@ -1,7 +1,5 @@
 package coconuts;
 
-import javafx.scene.image.Image;
-
 /**
  * -----------------------------------------------------------------------------
  * Class Name: HittableIslandObject
@@ -10,8 +8,8 @@ import javafx.scene.image.Image;
  *              class for all objects that participate in hit events within
  *              the game.
  *              <p>
- *              Domain class: should not include JavaFX or GUI logic beyond
- *              the Image reference.
+ *              Domain class: should not include JavaFX or GUI logic; only
+ *              the image file name is kept here.
  *              </p>
  *
  * @author  German Garrido-Lestache Belinchon
@@ -20,7 +18,8 @@ import javafx.scene.image.Image;
  * @since   10/22/25
  * -----------------------------------------------------------------------------
  */
-public abstract class HittableIslandObject extends IslandObject {
+public abstract sealed class HittableIslandObject extends IslandObject
+        permits Crab, Coconut, LaserBeam {
 
     // -------------------------------------------------------------------------
     // CONSTRUCTOR
@@ -30,14 +29,17 @@ public abstract class HittableIslandObject extends IslandObject {
      * Constructs a new hittable island object with the specified position,
      * size, and image.
      *
-     * @param game  reference to the game manager controlling game logic
-     * @param x     the horizontal position of the object
-     * @param y     the vertical position of the object
-     * @param width the width of the object
-     * @param image the image representing the object visually
+     * @param game      reference to the game manager controlling game logic
+     * @param type      the type ID of the object (see EntityType)
+     * @param x         the horizontal position of the object
+     * @param y         the vertical position of the object
+     * @param width     the width of the object
+     * @param velocityY the vertical distance the object moves per tick
+     * @param imageFile the image file representing the object visually
      */
-    public HittableIslandObject(OhCoconutsGameManager game, int x, int y, int width, Image image) {
-        super(game, x, y, width, image); // Initialize base IslandObject
+    public HittableIslandObject(OhCoconutsGameManager game, int type, int x, int y, int width,
+                                int velocityY, String imageFile) {
+        super(game, type, x, y, width, velocityY, imageFile); // Initialize base IslandObject
     }
 
     // -------------------------------------------------------------------------
@@ -0,0 +1,84 @@
+package coconuts;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: InputState
+ * Description: Collects the player's key presses and releases and folds them
+ *              into the set of keys held down, which the game loop samples
+ *              once per tick. Key events only append to a lock-free queue, so
+ *              they can come from any thread and never wait for a tick.
+ *              <p>
+ *              Because input is applied once per tick rather than once per
+ *              key event, the crab moves at the same speed whatever the
+ *              operating system's key repeat rate, and a replay only has to
+ *              record the ticks at which the held keys changed.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class InputState {
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Key events not yet sampled: a press is the action's mask, a release its complement. */
+    private final ConcurrentLinkedQueue<Integer> events = new ConcurrentLinkedQueue<>();
+
+    /** Actions whose key is held down, as of the last sample. Only used by the sampling thread. */
+    private int heldMask = 0;
+
+
+    // -------------------------------------------------------------------------
+    // KEY EVENTS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Records that the key of an action was pressed. Repeated presses of a
+     * key that is already held (key repeat) have no further effect.
+     *
+     * @param input the action whose key was pressed
+     */
+    public void press(PlayerInput input) {
+        events.offer(input.mask());
+    }
+
+    /**
+     * Records that the key of an action was released.
+     *
+     * @param input the action whose key was released
+     */
+    public void release(PlayerInput input) {
+        events.offer(~input.mask());
+    }
+
+
+    // -------------------------------------------------------------------------
+    // SAMPLING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Applies every key event since the last sample and returns the actions
+     * to perform in the coming tick. A key pressed and released again
+     * between two samples still counts as held for one tick, so short taps
+     * are not lost.
+     *
+     * @return the PlayerInput masks of the held actions, or-ed together
+     */
+    public int sample() {
+        int pressed = 0;
+        for (Integer event = events.poll(); event != null; event = events.poll()) {
+            if (event >= 0) {
+                heldMask |= event;
+                pressed |= event;
+            } else {
+                heldMask &= event;
+            }
+        }
+        return heldMask | pressed;
+    }
+}
@@ -1,18 +1,24 @@
 package coconuts;
 
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-
 /**
  * -----------------------------------------------------------------------------
  * Class Name: IslandObject
  * Description: Abstract base class for all objects in the Oh Coconuts game,
  *              including objects on the island and falling objects. Each object
- *              has a position, size, and optional image representation, and can
+ *              has a position, size, and optional image file name, and can
  *              interact with other island objects (e.g., hit detection).
  *              <p>
- *              Domain class: should not include GUI logic beyond the optional
- *              ImageView for representation.
+ *              The object's state lives in the containing game's EntityStore;
+ *              an IslandObject is a thin view over its slot in that store.
+ *              </p>
+ *              <p>
+ *              The hierarchy is sealed: every concrete subclass is final and
+ *              has one EntityType ID, and what may hit what is decided by
+ *              CollisionRules rather than by the classes themselves.
+ *              </p>
+ *              <p>
+ *              Domain class: should not include GUI logic. Drawing is done by
+ *              the GameView of the containing game.
  *              </p>
  *
  * @author  German Garrido-Lestache Belinchon
@@ -21,26 +27,26 @@ import javafx.scene.image.ImageView;
  * @since   10/22/25
  * -----------------------------------------------------------------------------
  */
-public abstract class IslandObject {
+public abstract sealed class IslandObject permits Beach, HittableIslandObject {
 
     // -------------------------------------------------------------------------
     // FIELDS
     // -------------------------------------------------------------------------
 
-    /** The width of the object in pixels. */
-    protected final int width;
-
     /** Minimum distance in pixels for two objects to be considered touching. */
-    final int minimumTouchingDistance = 35;
+    static final int minimumTouchingDistance = 35;
 
     /** Reference to the game manager containing this object. */
     protected final OhCoconutsGameManager containingGame;
 
-    /** The horizontal and vertical coordinates of this object. */
-    protected int x, y;
+    /** Store holding this object's state. */
+    private final EntityStore entities;
 
-    /** Optional JavaFX ImageView used for rendering this object. */
-    ImageView imageView = null;
+    /** Slot of this object in the entity store, or -1 once removed. */
+    int slot;
+
+    /** Optional image file (relative to the working directory) used by views. */
+    private final String imageFile;
 
 
     // -------------------------------------------------------------------------
@@ -48,40 +54,145 @@ public abstract class IslandObject {
     // -------------------------------------------------------------------------
 
     /**
-     * Constructs a new IslandObject with the specified position, size, and image.
+     * Constructs a new IslandObject with the specified position, size, and
+     * image, and adds it to the containing game's entity store.
      *
-     * @param game  the game manager that contains this object
-     * @param x     the horizontal position of the object
-     * @param y     the vertical position of the object
-     * @param width the width of the object
-     * @param image the image representing the object visually (can be null)
+     * @param game      the game manager that contains this object
+     * @param type      the type ID of the object (see EntityType)
+     * @param x         the horizontal position of the object
+     * @param y         the vertical position of the object
+     * @param width     the width of the object
+     * @param velocityY the vertical distance the object moves per tick
+     * @param imageFile the image file representing the object visually (can be null)
      */
-    public IslandObject(OhCoconutsGameManager game, int x, int y, int width, Image image) {
+    public IslandObject(OhCoconutsGameManager game, int type, int x, int y, int width,
+                        int velocityY, String imageFile) {
         containingGame = game;
-        if (image != null) {
-            imageView = new ImageView(image); // Create ImageView for visual representation
-            imageView.setPreserveRatio(true);
-            imageView.setFitWidth(width);
-        }
-        this.x = x;
-        this.y = y;
-        this.width = width;
-        display(); // Update ImageView position
+        entities = game.getEntities();
+        this.imageFile = imageFile;
+        spawn(type, x, y, width, velocityY);
         // System.out.println(this + " left " + left() + " right " + right()); // Debug output
     }
 
+    /**
+     * Adds this object to the entity store in a new slot. Used by the
+     * constructor and again when a pooled object is brought back into play.
+     *
+     * @param type      the type ID of the object (see EntityType)
+     * @param x         the horizontal position of the object
+     * @param y         the vertical position of the object
+     * @param width     the width of the object
+     * @param velocityY the vertical distance the object moves per tick
+     */
+    protected final void spawn(int type, int x, int y, int width, int velocityY) {
+        slot = entities.add(this, type, x, y, width, velocityY);
+    }
+
 
     // -------------------------------------------------------------------------
     // GETTERS
     // -------------------------------------------------------------------------
 
     /**
-     * Returns the ImageView associated with this object.
+     * Returns the image file associated with this object.
+     *
+     * @return the image file for rendering, or null if no image was provided
+     */
+    public String getImageFile() {
+        return imageFile;
+    }
+
+    /**
+     * Returns the type ID of this object.
+     *
+     * @return one of the type IDs defined in EntityType
+     */
+    public int getType() {
+        return entities.type[slot];
+    }
+
+    /**
+     * Returns the horizontal position of this object.
+     *
+     * @return the x-coordinate in pixels
+     */
+    public int getX() {
+        return entities.x[slot];
+    }
+
+    /**
+     * Returns the vertical position of this object.
+     *
+     * @return the y-coordinate in pixels
+     */
+    public int getY() {
+        return entities.y[slot];
+    }
+
+    /**
+     * Returns the horizontal position to draw this object at, interpolated
+     * between where it was at the start of the last tick and where it is now.
+     *
+     * @param alpha fraction of a tick that has passed since the last tick (0 to 1)
+     * @return the interpolated x-coordinate in pixels
+     */
+    public double getRenderX(double alpha) {
+        int previous = entities.previousX[slot];
+        return previous + (entities.x[slot] - previous) * alpha;
+    }
+
+    /**
+     * Returns the vertical position to draw this object at, interpolated
+     * between where it was at the start of the last tick and where it is now.
+     *
+     * @param alpha fraction of a tick that has passed since the last tick (0 to 1)
+     * @return the interpolated y-coordinate in pixels
+     */
+    public double getRenderY(double alpha) {
+        int previous = entities.previousY[slot];
+        return previous + (entities.y[slot] - previous) * alpha;
+    }
+
+    /**
+     * Determines whether this object changed position between the start of
+     * the last tick and now, so its drawn position changes between frames.
+     *
+     * @return true if the object is moving
+     */
+    public boolean isMoving() {
+        return entities.x[slot] != entities.previousX[slot] || entities.y[slot] != entities.previousY[slot];
+    }
+
+    /**
+     * Returns the width of this object.
+     *
+     * @return the width in pixels
+     */
+    public int getWidth() {
+        return entities.width[slot];
+    }
+
+
+    // -------------------------------------------------------------------------
+    // SETTERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Moves this object horizontally.
      *
-     * @return the ImageView for rendering, or null if no image was provided
+     * @param x the new x-coordinate in pixels
      */
-    protected ImageView getImageView() {
-        return imageView;
+    protected void setX(int x) {
+        entities.x[slot] = x;
+    }
+
+    /**
+     * Moves this object vertically.
+     *
+     * @param y the new y-coordinate in pixels
+     */
+    protected void setY(int y) {
+        entities.y[slot] = y;
     }
 
 
@@ -90,13 +201,10 @@ public abstract class IslandObject {
     // -------------------------------------------------------------------------
 
     /**
-     * Updates the ImageView's layout position to match the object's coordinates.
+     * Tells the containing game's view that this object's position changed.
      */
     public void display() {
-        if (imageView != null) {
-            imageView.setLayoutX(x);
-            imageView.setLayoutY(y);
-        }
+        containingGame.getView().objectMoved(this);
     }
 
 
@@ -110,7 +218,7 @@ public abstract class IslandObject {
      * @return true if this object is a Crab, Coconut, or LaserBeam
      */
     public boolean isHittable() {
-        return this instanceof Crab || this instanceof Coconut || this instanceof LaserBeam;
+        return EntityType.isHittable(getType());
     }
 
     /**
@@ -128,7 +236,7 @@ public abstract class IslandObject {
      * @return true if this object is a Beach
      */
     public boolean isGroundObject() {
-        return this instanceof Beach;
+        return getType() == EntityType.BEACH;
     }
 
     /**
@@ -137,7 +245,7 @@ public abstract class IslandObject {
      * @return true if this object is a Coconut
      */
     public boolean isFalling() {
-        return this instanceof Coconut;
+        return getType() == EntityType.COCONUT;
     }
 
     /**
@@ -147,9 +255,7 @@ public abstract class IslandObject {
      * @return true if this object can hit the other object, false otherwise
      */
     public boolean canHit(IslandObject other) {
-        return (this instanceof Beach && other instanceof Coconut)
-                || (this instanceof Crab && other instanceof Coconut)
-                || (this instanceof LaserBeam && other instanceof Coconut);
+        return CollisionRules.canHit(getType(), other.getType());
     }
 
     /**
@@ -159,25 +265,20 @@ public abstract class IslandObject {
      * @return true if the objects are close enough to be considered touching
      */
     public boolean isTouching(IslandObject other) {
-        // Special case: Beach and Coconut
-        if (this instanceof Beach && other instanceof Coconut && other.y >= 520) {
-            return true;
-        }
-
-        int deltaX = Math.abs(other.x - this.x);
-        int deltaY = Math.abs(other.y - this.y);
-
-        return deltaY <= minimumTouchingDistance && deltaX <= minimumTouchingDistance;
+        return entities.isTouching(slot, other.slot);
     }
 
 
     // -------------------------------------------------------------------------
-    // ABSTRACT METHODS
+    // GAME TICK
     // -------------------------------------------------------------------------
 
     /**
-     * Updates the object's state on each game tick.
-     * Must be implemented by subclasses.
+     * Updates the object's state on each game tick by moving it by its
+     * vertical speed. The game manager steps all objects at once through
+     * the entity store; this is for callers that step a single object.
      */
-    public abstract void step();
+    public void step() {
+        entities.step(slot);
+    }
 }
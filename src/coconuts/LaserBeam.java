@@ -1,7 +1,5 @@
 package coconuts;
 
-import javafx.scene.image.Image;
-
 /**
  * -----------------------------------------------------------------------------
  * Class Name: LaserBeam
@@ -9,7 +7,7 @@ import javafx.scene.image.Image;
  *              The laser moves upward and can hit only falling objects such as
  *              coconuts. This class extends HittableIslandObject.
  *              <p>
- *              Domain class: should not include GUI logic beyond the Image object.
+ *              Domain class: should not include GUI logic beyond the image file name.
  *              </p>
  *
  * @author  Dominic Celentano
@@ -17,17 +15,20 @@ import javafx.scene.image.Image;
  * @since   10/22/25
  * -----------------------------------------------------------------------------
  */
-public class LaserBeam extends HittableIslandObject {
+public final class LaserBeam extends HittableIslandObject {
 
     // -------------------------------------------------------------------------
     // CONSTANTS
     // -------------------------------------------------------------------------
 
     /** The width of the laser beam in pixels (update with image size if needed). */
-    private static final int WIDTH = 10;
+    static final int WIDTH = 10;
+
+    /** Distance in pixels the laser travels per tick (negative = upward). */
+    private static final int SPEED = -10;
 
-    /** The image representing the laser beam visually. */
-    private static final Image laserImage = new Image("file:images/laser-1.png");
+    /** The image file representing the laser beam visually. */
+    static final String IMAGE = "images/laser-1.png";
 
 
     // -------------------------------------------------------------------------
@@ -43,7 +44,17 @@ public class LaserBeam extends HittableIslandObject {
      * @param crabCenterX horizontal coordinate representing the crab's center
      */
     public LaserBeam(OhCoconutsGameManager game, int eyeHeight, int crabCenterX) {
-        super(game, crabCenterX, eyeHeight, WIDTH, laserImage);
+        super(game, EntityType.LASER, crabCenterX, eyeHeight, WIDTH, SPEED, IMAGE);
+    }
+
+    /**
+     * Brings a pooled laser beam back into play at the crab's eye.
+     *
+     * @param eyeHeight   vertical coordinate representing the crab's shooting point
+     * @param crabCenterX horizontal coordinate representing the crab's center
+     */
+    void respawn(int eyeHeight, int crabCenterX) {
+        spawn(EntityType.LASER, crabCenterX, eyeHeight, WIDTH, SPEED);
     }
 
 
@@ -57,16 +68,7 @@ public class LaserBeam extends HittableIslandObject {
      * @return the y-coordinate plus the width of the laser
      */
     public int hittable_height() {
-        return y + WIDTH;
-    }
-
-    /**
-     * Updates the laser beam's position on each game tick.
-     * The laser moves upward by 10 pixels per tick.
-     */
-    @Override
-    public void step() {
-        y -= 10; // Move laser upward
+        return getY() + WIDTH;
     }
 
     /**
@@ -84,6 +86,6 @@ public class LaserBeam extends HittableIslandObject {
      * @param scoreDelta the number of coconuts to add to the destroyed score
      */
     private void changeScore(int scoreDelta) {
-        ScoreboardData.changeDestroyedCoconuts(scoreDelta);
+        containingGame.getScoreboardData().changeDestroyedCoconuts(scoreDelta);
     }
 }
@@ -1,13 +1,28 @@
 package coconuts;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import java.time.Duration;
+import java.time.Instant;
 
 public class Main extends Application {
 
+    /** System property choosing how the scene is built: "code" (default) or "fxml". */
+    private static final String SCENE_PROPERTY = "coconuts.scene";
+
+    /** System property that makes the application exit once its first frame is shown. */
+    static final String EXIT_AFTER_FIRST_FRAME_PROPERTY = "coconuts.exitAfterFirstFrame";
+
+    /** Start of every line reporting the time to the first frame. */
+    static final String FIRST_FRAME_PREFIX = "First frame after ";
+
+    /** Controller of the game scene, told when the application exits. */
+    private GameController gameController;
+
     public Main() {
     }/**
      * -----------------------------------------------------------------------------
@@ -27,17 +42,52 @@ public class Main extends Application {
 
     @Override
     public void start(Stage primaryStage) throws Exception {
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("coconuts.fxml"));
+        AssetManager.preload(); // Decode sprites in the background while the scene is built
 
+        String sceneBuilder = System.getProperty(SCENE_PROPERTY, "code");
+        Parent root;
+        if (sceneBuilder.equals("fxml")) {
+            FXMLLoader loader = new FXMLLoader(getClass().getResource("coconuts.fxml"));
+            root = loader.load();
+            gameController = loader.getController();
+        } else {
+            gameController = new GameController();
+            root = GameScene.build(gameController); // Same scene as the FXML, without parsing or reflection
+        }
 
-        Parent root = loader.load();
         primaryStage.setTitle("A Lonely Beach");
         Scene scene = new Scene(root);
         primaryStage.setScene(scene);
+        reportFirstFrame(scene, sceneBuilder);
         primaryStage.show();
+    }
 
+    /**
+     * Prints the time from process start to the first frame of the scene
+     * (the first pulse that has laid it out), and exits right after if the
+     * coconuts.exitAfterFirstFrame property is set. Used by the startup
+     * benchmark and the class-data sharing training run.
+     *
+     * @param scene        the application's scene
+     * @param sceneBuilder how the scene was built ("code" or "fxml")
+     */
+    private static void reportFirstFrame(Scene scene, String sceneBuilder) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                Instant started = ProcessHandle.current().info().startInstant().orElse(Instant.now());
+                System.out.println(FIRST_FRAME_PREFIX + Duration.between(started, Instant.now()).toMillis()
+                        + " ms (scene: " + sceneBuilder + ")");
+                if (Boolean.getBoolean(EXIT_AFTER_FIRST_FRAME_PROPERTY)) {
+                    Platform.exit();
+                }
+            }
+        });
+    }
 
-        GameController gameController = loader.getController();
-        Scoreboard scoreboard = new Scoreboard(gameController);
+    @Override
+    public void stop() {
+        gameController.shutdown(); // Dump metrics, final autosave, finish any replay being recorded
     }
 }
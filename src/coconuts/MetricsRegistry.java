@@ -0,0 +1,129 @@
+package coconuts;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: MetricsRegistry
+ * Description: Named metrics of one game. Timers and per-tick counts are
+ *              Histograms; gauges hold the latest value of something that is
+ *              sampled rather than accumulated (entity counts, scene-graph
+ *              node count). Metrics are created on first use and listed in
+ *              the order they were created.
+ *              <p>
+ *              Callers on hot paths look a metric up once and keep the
+ *              returned Histogram or Gauge, so recording costs no map
+ *              lookups. report() formats everything for the on-screen
+ *              overlay and for the dump written on exit.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class MetricsRegistry {
+
+    /**
+     * Latest value of a sampled quantity.
+     */
+    public static class Gauge {
+
+        /** Most recently set value. */
+        private long value;
+
+        public void set(long value) {
+            this.value = value;
+        }
+
+        public long get() {
+            return value;
+        }
+    }
+
+    /** Suffix of histogram names whose values are nanoseconds. */
+    public static final String NANOS_SUFFIX = ".ns";
+
+    /** Histograms by name. */
+    private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+
+    /** Gauges by name. */
+    private final Map<String, Gauge> gauges = new LinkedHashMap<>();
+
+
+    // -------------------------------------------------------------------------
+    // LOOKUP
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the histogram with the given name, creating it on first use.
+     * Names ending in ".ns" are reported as durations.
+     *
+     * @param name the metric name
+     * @return the histogram
+     */
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, n -> new Histogram());
+    }
+
+    /**
+     * Returns the gauge with the given name, creating it on first use.
+     *
+     * @param name the metric name
+     * @return the gauge
+     */
+    public Gauge gauge(String name) {
+        return gauges.computeIfAbsent(name, n -> new Gauge());
+    }
+
+
+    // -------------------------------------------------------------------------
+    // REPORTING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Formats every metric, one per line. Durations are shown in
+     * microseconds.
+     *
+     * @return the report
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            String name = entry.getKey();
+            Histogram histogram = entry.getValue();
+            if (name.endsWith(NANOS_SUFFIX)) {
+                report.append(String.format("%-22s mean %8.1f us  p99 %8.1f us  max %8.1f us%n",
+                        name.substring(0, name.length() - NANOS_SUFFIX.length()),
+                        histogram.getMean() / 1e3, histogram.getPercentile(99) / 1e3, histogram.getMax() / 1e3));
+            } else {
+                report.append(String.format("%-22s mean %8.1f     p99 %8d     max %8d%n",
+                        name, histogram.getMean(), histogram.getPercentile(99), histogram.getMax()));
+            }
+        }
+        for (Map.Entry<String, Gauge> entry : gauges.entrySet()) {
+            report.append(String.format("%-22s %d%n", entry.getKey(), entry.getValue().get()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Writes the report to a file.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void dump(Path file) throws IOException {
+        Files.writeString(file, report());
+    }
+
+    /**
+     * Forgets every value recorded so far, keeping the metrics themselves.
+     */
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+    }
+}
@@ -0,0 +1,133 @@
+package coconuts;
+
+import java.util.ArrayDeque;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: ObjectPool
+ * Description: Bounded pool of reusable objects. Objects handed back with
+ *              release() are kept (up to the pool's capacity) and handed out
+ *              again by acquire(), so frequently created game objects such
+ *              as coconuts, laser beams and their ImageViews do not have to be
+ *              allocated and garbage collected over and over.
+ *              <p>
+ *              The pool also counts how often acquire() could be served from
+ *              the pool (hit rate) and the largest number of objects that
+ *              were handed out at the same time (high-water mark).
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class ObjectPool<T> {
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Name used when printing the pool's counters. */
+    private final String name;
+
+    /** Maximum number of idle objects kept by the pool. */
+    private final int capacity;
+
+    /** Idle objects ready to be handed out again. */
+    private final ArrayDeque<T> idle = new ArrayDeque<>();
+
+    /** Number of calls to acquire(), and how many were served from the pool. */
+    private long acquires = 0, hits = 0;
+
+    /** Number of objects currently handed out, and the most there ever were. */
+    private int inUse = 0, highWaterMark = 0;
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param name     name used when printing the pool's counters
+     * @param capacity maximum number of idle objects to keep
+     */
+    public ObjectPool(String name, int capacity) {
+        this.name = name;
+        this.capacity = capacity;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // POOL METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Takes an idle object out of the pool. When the pool is empty, the
+     * caller is expected to create a new object itself.
+     *
+     * @return an idle object to reuse, or null if there is none
+     */
+    public T acquire() {
+        acquires++;
+        inUse++;
+        highWaterMark = Math.max(highWaterMark, inUse);
+
+        T object = idle.pollLast(); // Most recently released object is most likely still cached
+        if (object != null) {
+            hits++;
+        }
+        return object;
+    }
+
+    /**
+     * Hands an object that is no longer used back to the pool. The object
+     * is dropped for the garbage collector if the pool is already full.
+     *
+     * @param object the object to release
+     */
+    public void release(T object) {
+        inUse = Math.max(0, inUse - 1);
+        if (idle.size() < capacity) {
+            idle.addLast(object);
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // COUNTERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the fraction of acquire() calls that were served from the pool.
+     *
+     * @return the hit rate between 0 and 1, or 0 before the first acquire()
+     */
+    public double getHitRate() {
+        return acquires == 0 ? 0 : (double) hits / acquires;
+    }
+
+    /**
+     * Returns the largest number of objects handed out at the same time.
+     *
+     * @return the high-water mark
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Returns the number of idle objects currently in the pool.
+     *
+     * @return the number of idle objects
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s pool: %.1f%% hits of %d acquires, high-water mark %d, %d idle",
+                name, getHitRate() * 100, acquires, highWaterMark, idle.size());
+    }
+}
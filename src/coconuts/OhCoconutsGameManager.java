@@ -1,10 +1,9 @@
 package coconuts;
 
-import javafx.scene.layout.Pane;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.List;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * -----------------------------------------------------------------------------
@@ -15,7 +14,20 @@ import java.util.List;
  *              the scoreboard.
  *              <p>
  *              Acts as the bridge between the domain objects (Crab, Coconut,
- *              Beach, LaserBeam) and the JavaFX view (Pane).
+ *              Beach, LaserBeam) and the view. The view is any GameView, so the
+ *              game can run headless (GameView.NONE) without a JavaFX toolkit.
+ *              </p>
+ *              <p>
+ *              With more than one worker thread, large games split the step
+ *              and collision phases of a tick into TickPartitions that run in
+ *              the common ForkJoinPool. Hits are applied afterwards in the
+ *              order a single-threaded tick finds them, so both modes play out
+ *              identically.
+ *              </p>
+ *              <p>
+ *              The class is final because its constructors hand the game
+ *              to the crab, beach and restored entities they create before
+ *              construction is complete.
  *              </p>
  *
  * Author:   German Garrido-Lestache Belinchon
@@ -24,32 +36,64 @@ import java.util.List;
  * @since   10/22/25
  * -----------------------------------------------------------------------------
  */
-public class OhCoconutsGameManager {
+public final class OhCoconutsGameManager {
 
     // -------------------------------------------------------------------------
     // FIELDS
     // -------------------------------------------------------------------------
 
-    /** All island objects in the game. */
-    private final Collection<IslandObject> allObjects = new LinkedList<>();
+    /** Maximum number of idle coconuts and laser beams kept for reuse. */
+    private static final int POOL_CAPACITY = 512;
 
-    /** Hittable objects in the game, used for collision detection. */
-    private final Collection<HittableIslandObject> hittableIslandSubjects = new LinkedList<>();
+    /** Fewest entities for which a tick is split across worker threads. */
+    static final int PARALLEL_MIN_ENTITIES = 4096;
+
+    /** State of all island objects in the game, stored column by column. */
+    private final EntityStore entities = new EntityStore();
 
     /** Objects scheduled for removal after processing a tick. */
     private final Collection<IslandObject> scheduledForRemoval = new LinkedList<>();
 
+    /** Removed coconuts and laser beams kept for reuse. */
+    private final ObjectPool<Coconut> coconutPool = new ObjectPool<>("Coconut", POOL_CAPACITY);
+    private final ObjectPool<LaserBeam> laserPool = new ObjectPool<>("LaserBeam", POOL_CAPACITY);
+
+    /** Broadphase grid of hittable objects, rebuilt every tick. */
+    private final SpatialHash hittableGrid = new SpatialHash(IslandObject.minimumTouchingDistance);
+
+    /** Lookup buffer in the grid used by single-threaded ticks. */
+    private final SpatialHash.Query gridQuery = hittableGrid.newQuery();
+
+    /** One partition per worker thread; empty when ticks run single-threaded. */
+    private TickPartition[] partitions = new TickPartition[0];
+
+    /** Slots of the entities that touch along the whole width (the beach), found each tick. */
+    private int[] wideAttackers = new int[4];
+    private int wideAttackerCount;
+
+    /** Whether hits are tested along each object's path during the tick, not just at its end. */
+    private boolean sweptCollisions = true;
+
+    /** Whether single-threaded ticks look up nearby targets in the grid rather than testing every pair. */
+    private boolean gridBroadphase = true;
+
     /** Dimensions of the game area. */
     private final int height, width;
 
-    /** Interval in ticks between dropping coconuts. */
-    private final int DROP_INTERVAL = 10;
+    /** Interval in ticks between dropping coconuts, and the number dropped at once. */
+    private final int dropInterval, coconutsPerDrop;
+
+    /** Game tick at which coconuts stop dropping; the game ends once the last one is gone. */
+    private final int maxTime;
+
+    /** Minimum number of ticks between laser shots fired with tryFireLaser(). */
+    static final int FIRE_COOLDOWN_TICKS = 6;
 
-    /** Maximum number of game ticks before stopping. */
-    private final int MAX_TIME = 100;
+    /** View that is told when objects are added, moved, removed or hidden. */
+    private final GameView view;
 
-    /** JavaFX pane representing the game area. */
-    private Pane gamePane;
+    /** Encoder streaming the game to spectators, or null when not streaming. */
+    private StateStreamEncoder stateStream;
 
     /** Reference to the player's crab. */
     private Crab theCrab;
@@ -60,43 +104,168 @@ public class OhCoconutsGameManager {
     /** Number of coconuts currently in flight. */
     private int coconutsInFlight = 0;
 
-    /** Current game tick. */
+    /** Current game tick (advanced by coconut drops and laser shots). */
     private int gameTick = 0;
 
+    /** Number of times advanceOneTick() has run. */
+    private int tickCount = 0;
+
+    /** First tick at which tryFireLaser() may fire again. */
+    private int nextShotTick = 0;
+
+    /** Seed the game's random number generator started from. */
+    private final long seed;
+
+    /** Random number generator deciding where coconuts drop. */
+    private final GameRandom random;
+
+    /** Statistics (score and health) of this game. */
+    private final ScoreboardData scoreboardData = new ScoreboardData();
+
     /** Hit event used to notify observers about hits. */
     private HitEvent hitEvent = new HitEvent();
 
+    /** Per-tick performance metrics of this game. */
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final Histogram stepTime = metrics.histogram("tick.step" + MetricsRegistry.NANOS_SUFFIX);
+    private final Histogram collisionTime = metrics.histogram("tick.collision" + MetricsRegistry.NANOS_SUFFIX);
+    private final Histogram removalTime = metrics.histogram("tick.removal" + MetricsRegistry.NANOS_SUFFIX);
+    private final Histogram pairTests = metrics.histogram("pairTests");
+    private final Histogram notifications = metrics.histogram("notifications");
+    private final MetricsRegistry.Gauge[] entityCounts = {
+            metrics.gauge("entities.beach"), metrics.gauge("entities.crab"),
+            metrics.gauge("entities.coconut"), metrics.gauge("entities.laser")
+    };
+
+    /** Number of pair tests made so far in the current tick. */
+    private int pairTestsThisTick;
+
 
     // -------------------------------------------------------------------------
     // CONSTRUCTOR
     // -------------------------------------------------------------------------
 
     /**
-     * Constructs a new game manager with the specified height, width, and pane.
-     * Initializes the crab, beach, and attaches observers to hit events.
+     * Constructs a new headless game manager with the specified height and
+     * width. Nothing is drawn; useful for simulations and batch runs.
      *
-     * @param height   the vertical size of the game area
-     * @param width    the horizontal size of the game area
-     * @param gamePane the JavaFX Pane used to display game objects
+     * @param height the vertical size of the game area
+     * @param width  the horizontal size of the game area
      */
-    public OhCoconutsGameManager(int height, int width, Pane gamePane) {
-        this.height = height;
-        this.width = width;
-        this.gamePane = gamePane;
+    public OhCoconutsGameManager(int height, int width) {
+        this(height, width, GameView.NONE);
+    }
+
+    /**
+     * Constructs a new game manager with the specified height, width, and view,
+     * using a fresh random seed.
+     *
+     * @param height the vertical size of the game area
+     * @param width  the horizontal size of the game area
+     * @param view   the view used to display game objects
+     */
+    public OhCoconutsGameManager(int height, int width, GameView view) {
+        this(height, width, view, System.nanoTime());
+    }
+
+    /**
+     * Constructs a new game manager with the specified height, width, view,
+     * and seed, using the rules of the normal game.
+     *
+     * @param height the vertical size of the game area
+     * @param width  the horizontal size of the game area
+     * @param view   the view used to display game objects
+     * @param seed   seed of the game's random number generator
+     */
+    public OhCoconutsGameManager(int height, int width, GameView view, long seed) {
+        this(GameConfig.DEFAULT.withPlayfield(height, width), view, seed);
+    }
+
+    /**
+     * Constructs a new game manager with the specified rules, view, and
+     * seed. Initializes the crab, beach, and attaches observers to hit
+     * events. Games with the same configuration, seed and inputs play out
+     * identically.
+     *
+     * @param config the playfield size, drop rate and other rules of the game
+     * @param view   the view used to display game objects
+     * @param seed   seed of the game's random number generator
+     */
+    public OhCoconutsGameManager(GameConfig config, GameView view, long seed) {
+        this.height = config.getHeight();
+        this.width = config.getWidth();
+        this.dropInterval = config.getDropInterval();
+        this.coconutsPerDrop = config.getCoconutsPerDrop();
+        this.maxTime = config.getMaxTime();
+        this.view = view;
+        this.seed = seed;
+        this.random = new GameRandom(seed);
+        scoreboardData.restore(0, 0, config.getInitialHealth());
 
         // Initialize crab and register it
         this.theCrab = new Crab(this, height, width);
         registerObject(theCrab);
-        gamePane.getChildren().add(theCrab.getImageView());
 
         // Initialize beach and register it
         this.theBeach = new Beach(this, height, width);
         registerObject(theBeach);
-        if (theBeach.getImageView() != null)
-            System.out.println("Unexpected image view for beach");
+        if (theBeach.getImageFile() != null)
+            System.out.println("Unexpected image for beach");
 
         // Attach scoreboard observer to hit events
-        hitEvent.attach(new ScoreboardObserver());
+        hitEvent.attach(new ScoreboardObserver(scoreboardData));
+        view.commit(); // Show the crab before the first tick
+    }
+
+    /**
+     * Constructs a game manager that continues from a snapshot. Every
+     * entity is recreated in its original slot so the restored game plays
+     * on exactly like the one the snapshot was taken from.
+     *
+     * @param snapshot the captured game state
+     * @param view     the view used to display game objects
+     */
+    OhCoconutsGameManager(GameSnapshot snapshot, GameView view) {
+        this.height = snapshot.height;
+        this.width = snapshot.width;
+        this.dropInterval = snapshot.dropInterval;
+        this.coconutsPerDrop = snapshot.coconutsPerDrop;
+        this.maxTime = snapshot.maxTime;
+        this.view = view;
+        this.seed = snapshot.seed;
+        this.random = new GameRandom(snapshot.randomState);
+        this.gameTick = snapshot.gameTick;
+        this.tickCount = snapshot.tickCount;
+        this.coconutsInFlight = snapshot.coconutsInFlight;
+        this.nextShotTick = snapshot.nextShotTick;
+        this.sweptCollisions = snapshot.sweptCollisions;
+        scoreboardData.restore(snapshot.beachedCoconuts, snapshot.destroyedCoconuts, snapshot.health);
+
+        Crab crab = null;
+        for (int i = 0; i < snapshot.entityCount; i++) {
+            IslandObject object = switch (snapshot.type[i]) {
+                case EntityType.BEACH -> theBeach = new Beach(this, height, width);
+                case EntityType.CRAB -> crab = new Crab(this, height, width);
+                case EntityType.COCONUT -> new Coconut(this, snapshot.x[i]);
+                default -> new LaserBeam(this, snapshot.y[i], snapshot.x[i]);
+            };
+            entities.x[i] = snapshot.x[i];
+            entities.y[i] = snapshot.y[i];
+            entities.previousX[i] = snapshot.previousX[i];
+            entities.previousY[i] = snapshot.previousY[i];
+            entities.width[i] = snapshot.entityWidth[i];
+            entities.velocityY[i] = snapshot.velocityY[i];
+            registerObject(object);
+        }
+
+        // A dead crab stays in the store, it is only hidden
+        theCrab = crab;
+        if (!snapshot.crabAlive && crab != null) {
+            killCrab();
+        }
+
+        hitEvent.attach(new ScoreboardObserver(scoreboardData));
+        view.commit();
     }
 
 
@@ -105,15 +274,13 @@ public class OhCoconutsGameManager {
     // -------------------------------------------------------------------------
 
     /**
-     * Registers an island object with the game.
+     * Registers an island object with the game. The object's state is
+     * already in the entity store; this makes it visible to the view.
      *
      * @param object the IslandObject to register
      */
-    private void registerObject(IslandObject object) {
-        allObjects.add(object);
-        if (object.isHittable()) {
-            hittableIslandSubjects.add((HittableIslandObject) object);
-        }
+    void registerObject(IslandObject object) {
+        view.objectAdded(object);
     }
 
 
@@ -133,28 +300,124 @@ public class OhCoconutsGameManager {
         return theCrab;
     }
 
+    public GameView getView() {
+        return view;
+    }
 
-    // -------------------------------------------------------------------------
-    // GAMEPLAY METHODS
-    // -------------------------------------------------------------------------
+    public ScoreboardData getScoreboardData() {
+        return scoreboardData;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
+    public boolean isSweptCollisions() {
+        return sweptCollisions;
+    }
+
+    public int getWorkerThreads() {
+        return Math.max(1, partitions.length);
+    }
+
+    /**
+     * Sets the number of threads the step and collision phases of a tick
+     * are split across. Games with fewer than PARALLEL_MIN_ENTITIES entities
+     * always tick on the calling thread. The outcome of every tick is the
+     * same for any number of threads.
+     *
+     * @param workerThreads number of threads, 1 to tick single-threaded (the default)
+     */
+    public void setWorkerThreads(int workerThreads) {
+        if (workerThreads < 1) {
+            throw new IllegalArgumentException("workerThreads must be at least 1: " + workerThreads);
+        }
+        partitions = new TickPartition[workerThreads > 1 ? workerThreads : 0];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new TickPartition(this, hittableGrid.newQuery());
+        }
+    }
 
     /**
-     * Decrements the count of coconuts in flight when one is destroyed.
+     * Chooses between swept collision tests, which follow each object's path
+     * during the tick so fast objects cannot pass through each other, and
+     * the original tests of the end-of-tick positions only.
+     *
+     * @param sweptCollisions true for swept tests (the default)
      */
-    public void coconutDestroyed() {
-        coconutsInFlight -= 1;
+    public void setSweptCollisions(boolean sweptCollisions) {
+        this.sweptCollisions = sweptCollisions;
     }
 
     /**
-     * Attempts to drop a new coconut according to the drop interval.
+     * Chooses between looking up each attacker's nearby targets in the
+     * spatial hash and testing every attacker against every target, the
+     * original brute-force pass. Both find the same hits; the brute-force
+     * pass is kept to check the grid against. Ticks split across worker
+     * threads always use the grid.
+     *
+     * @param gridBroadphase true for the grid (the default)
+     */
+    void setGridBroadphase(boolean gridBroadphase) {
+        this.gridBroadphase = gridBroadphase;
+    }
+
+    /**
+     * Streams the game to spectators: the encoder's afterTick() is called at
+     * the end of every tick from now on.
+     *
+     * @param stateStream encoder created for this game, or null to stop streaming
+     */
+    public void setStateStream(StateStreamEncoder stateStream) {
+        this.stateStream = stateStream;
+    }
+
+    EntityStore getEntities() {
+        return entities;
+    }
+
+    public ObjectPool<Coconut> getCoconutPool() {
+        return coconutPool;
+    }
+
+    public ObjectPool<LaserBeam> getLaserPool() {
+        return laserPool;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // GAMEPLAY METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Attempts to drop new coconuts according to the drop interval, as many
+     * as the game's configuration asks for at once. Nothing drops once the
+     * game tick has reached the maximum time, so the game can end.
      * Increments the game tick on each call.
      */
     public void tryDropCoconut() {
-        if (gameTick % DROP_INTERVAL == 0 && theCrab != null) {
-            coconutsInFlight += 1;
-            Coconut c = new Coconut(this, (int) (Math.random() * width));
-            registerObject(c);
-            gamePane.getChildren().add(c.getImageView());
+        if (gameTick < maxTime && gameTick % dropInterval == 0 && theCrab != null) {
+            for (int i = 0; i < coconutsPerDrop; i++) {
+                coconutsInFlight += 1;
+                int x = (int) (random.nextDouble() * width);
+                Coconut c = coconutPool.acquire();
+                boolean pooled = c != null;
+                if (c == null) {
+                    c = new Coconut(this, x);
+                } else {
+                    c.respawn(x);
+                }
+                registerObject(c);
+                commitSpawnEvent(c, pooled);
+            }
         }
         gameTick++;
     }
@@ -164,19 +427,57 @@ public class OhCoconutsGameManager {
      * Increments the game tick on each call.
      */
     public void tryShootLaser() {
-        if (theCrab != null) {
-            LaserBeam l = new LaserBeam(this, theCrab.y + 25, theCrab.x + 25);
-            registerObject(l);
-            gamePane.getChildren().add(l.getImageView());
-        }
+        shootLaser();
         gameTick++;
     }
 
+    /**
+     * Fires a laser from the crab if it exists, for the automatic fire of a
+     * stress run. Unlike tryShootLaser(), the game tick is not advanced, so
+     * the coconut drops keep their cadence however often the crab fires.
+     */
+    void autoFireLaser() {
+        shootLaser();
+    }
+
+    /**
+     * Fires a laser from the crab if it exists, taking it from the pool
+     * when one is free.
+     */
+    private void shootLaser() {
+        if (theCrab == null) { return; }
+
+        LaserBeam l = laserPool.acquire();
+        boolean pooled = l != null;
+        if (l == null) {
+            l = new LaserBeam(this, theCrab.getY() + 25, theCrab.getX() + 25);
+        } else {
+            l.respawn(theCrab.getY() + 25, theCrab.getX() + 25);
+        }
+        registerObject(l);
+        commitSpawnEvent(l, pooled);
+    }
+
+    /**
+     * Fires a laser from the crab unless one was fired less than
+     * FIRE_COOLDOWN_TICKS ticks ago. Used for the held fire key, so holding
+     * it down fires at a steady rate.
+     *
+     * @return true if a laser was fired
+     */
+    public boolean tryFireLaser() {
+        if (theCrab == null || tickCount < nextShotTick) { return false; }
+
+        nextShotTick = tickCount + FIRE_COOLDOWN_TICKS;
+        tryShootLaser();
+        return true;
+    }
+
     /**
      * Removes the crab from the game and hides its image.
      */
     public void killCrab() {
-        theCrab.getImageView().setVisible(false);
+        view.objectHidden(theCrab);
         theCrab = null;
     }
 
@@ -185,65 +486,412 @@ public class OhCoconutsGameManager {
     // GAME LOOP
     // -------------------------------------------------------------------------
 
+    /**
+     * Advances the game state by one tick with no actions held.
+     */
+    public void advanceOneTick() {
+        advanceOneTick(0);
+    }
+
     /**
      * Advances the game state by one tick:
      * - Updates all objects
+     * - Applies the held actions: crawls and fires (see PlayerInput.applyHeld)
+     * - Despawns objects that have left the playfield
      * - Checks collisions and updates scores
      * - Removes objects scheduled for deletion
      * - Ends game if health reaches 0
+     * - Commits the tick's additions and removals to the view in one batch
+     * - Writes the tick to the state stream, if streaming
+     * <p>
+     * Objects moved by the step are not reported to the view one by one;
+     * views read every position when they render. The held actions are
+     * applied after the step, so a crawl is interpolated over this tick
+     * like any other move, and before the commit, so lasers they fire are
+     * shown with this tick.
+     * </p>
+     *
+     * @param heldMask masks of the actions held during this tick, or-ed together
      */
-    public void advanceOneTick() {
+    public void advanceOneTick(int heldMask) {
+        tickCount++;
+        long notificationsBefore = hitEvent.getNotificationCount();
+        long phaseStart = System.nanoTime();
+        TickPhaseEvent phaseEvent = GameEvents.isRecorderRunning() ? nextPhaseEvent(null, null) : null;
+
         // Update all objects
-        for (IslandObject o : allObjects) {
-            o.step();
-            o.display();
+        boolean parallel = partitions.length > 0 && entities.size() >= PARALLEL_MIN_ENTITIES;
+        if (parallel) {
+            runPartitions(TickPartition.STEP, entities.size());
+        } else {
+            entities.stepAll();
+        }
+        PlayerInput.applyHeld(this, heldMask);
+        long stepEnd = System.nanoTime();
+        stepTime.record(stepEnd - phaseStart);
+        phaseEvent = nextPhaseEvent(phaseEvent, "step");
+
+        // Despawn objects that have left the playfield (e.g. lasers that missed)
+        despawnOutOfBounds();
+        long despawnEnd = System.nanoTime();
+        phaseEvent = nextPhaseEvent(phaseEvent, "despawn");
+
+        // Bucket objects that can be hit by grid cell so only nearby pairs are
+        // tested, counting the entities of each type on the way
+        int count = entities.size();
+        int[] type = entities.type, x = entities.x, y = entities.y;
+        int[] previousX = entities.previousX, previousY = entities.previousY;
+        for (MetricsRegistry.Gauge entityCount : entityCounts) {
+            entityCount.set(0);
+        }
+        hittableGrid.clear(count);
+        wideAttackerCount = 0;
+        for (int i = 0; i < count; i++) {
+            entityCounts[type[i]].set(entityCounts[type[i]].get() + 1);
+            if (CollisionRules.touchesWholeWidth(type[i])) {
+                addWideAttacker(i);
+            }
+            if (!CollisionRules.canBeHit(type[i])) { continue; }
+
+            if (sweptCollisions) {
+                hittableGrid.insertSwept(i, previousX[i], previousY[i], x[i], y[i]); // Every cell along its path
+            } else {
+                hittableGrid.insert(i, x[i], y[i]);
+            }
         }
 
         // Check collisions and collect objects to remove
+        pairTestsThisTick = 0;
         scheduledForRemoval.clear();
-        for (IslandObject thisObj : allObjects) {
-            for (HittableIslandObject hittableObject : hittableIslandSubjects) {
-                if (thisObj.canHit(hittableObject) && thisObj.isTouching(hittableObject)) {
-                    switch (thisObj) {
-                        case Crab crab when hittableObject instanceof Coconut -> ScoreboardData.changeHealth(-5);
-                        case LaserBeam laserBeam when hittableObject instanceof Coconut -> ScoreboardData.changeDestroyedCoconuts(1);
-                        case Beach beach when hittableObject instanceof Coconut -> ScoreboardData.changeBeachCoconuts(1);
-                        default -> { }
+        if (parallel) {
+            collideInParallel(count);
+        } else {
+            for (int attacker = 0; attacker < count; attacker++) {
+                if (!CollisionRules.canHitAnything(type[attacker])) { continue; }
+
+                if (!gridBroadphase || CollisionRules.touchesWholeWidth(type[attacker])) {
+                    // Brute-force pass, or an attacker touching targets anywhere along the
+                    // playfield (the beach): check every target
+                    for (int target = 0; target < count; target++) {
+                        if (CollisionRules.canBeHit(type[target])) {
+                            checkHit(attacker, target);
+                        }
+                    }
+                } else {
+                    int nearby = collectTargets(gridQuery, attacker);
+                    for (int k = 0; k < nearby; k++) {
+                        checkHit(attacker, gridQuery.nearby(k));
                     }
-
-                    hitEvent.notifyObservers();
-                    scheduledForRemoval.add(hittableObject);
-                    gamePane.getChildren().remove(hittableObject.getImageView());
                 }
             }
         }
 
+        long collisionEnd = System.nanoTime();
+        collisionTime.record(collisionEnd - despawnEnd);
+        pairTests.record(pairTestsThisTick);
+        phaseEvent = nextPhaseEvent(phaseEvent, "collision");
+
         // Remove scheduled objects
-        for (IslandObject thisObj : scheduledForRemoval) {
-            allObjects.remove(thisObj);
-            if (thisObj instanceof HittableIslandObject) {
-                hittableIslandSubjects.remove((HittableIslandObject) thisObj);
-            }
-        }
-        scheduledForRemoval.clear();
+        removeScheduledObjects();
 
         // Handle game over: remove crab and all laser beams
-        if (ScoreboardData.getHealth() <= 0 && theCrab != null) {
+        if (scoreboardData.getHealth() <= 0 && theCrab != null) {
             killCrab();
 
-            List<IslandObject> lasersToRemove = new ArrayList<>();
-            for (IslandObject o : allObjects) {
-                if (o instanceof LaserBeam) {
-                    lasersToRemove.add(o);
+            for (int i = 0; i < entities.size(); i++) {
+                if (type[i] == EntityType.LASER) {
+                    scheduleForDeletion(entities.objects[i]);
+                }
+            }
+            removeScheduledObjects();
+        }
+
+        // Despawning counts as removal too
+        removalTime.record(System.nanoTime() - collisionEnd + (despawnEnd - stepEnd));
+        notifications.record(hitEvent.getNotificationCount() - notificationsBefore);
+        nextPhaseEvent(phaseEvent, "removal");
+
+        view.commit();
+        if (stateStream != null) {
+            stateStream.afterTick();
+        }
+    }
+
+    /**
+     * Schedules every object that has left the playfield for deletion and
+     * removes them all in one pass. Objects are only despawned once they are
+     * further than the touching distance outside the playfield, so nothing
+     * they could still hit is lost.
+     */
+    private void despawnOutOfBounds() {
+        int margin = IslandObject.minimumTouchingDistance;
+        for (int i = 0; i < entities.size(); i++) {
+            if (entities.isOutside(i, -margin, -margin, width + margin, height + margin)) {
+                scheduleForDeletion(entities.objects[i]);
+            }
+        }
+        if (!scheduledForRemoval.isEmpty()) {
+            removeScheduledObjects();
+        }
+    }
+
+    /**
+     * Applies the effect of one entity hitting another if they can hit and
+     * are touching, and schedules the entity that was hit for removal.
+     *
+     * @param attacker slot of the hitting entity
+     * @param target   slot of the entity that may be hit
+     */
+    private void checkHit(int attacker, int target) {
+        pairTestsThisTick++;
+        if (isHit(attacker, target)) {
+            applyHit(attacker, target);
+        }
+    }
+
+    /**
+     * Determines whether one entity hits another in this tick. Only reads
+     * the entity store, so it can be called from worker threads.
+     *
+     * @param attacker slot of the hitting entity
+     * @param target   slot of the entity that may be hit
+     * @return true if the attacker can hit the target and they touched
+     */
+    boolean isHit(int attacker, int target) {
+        int[] type = entities.type;
+        if (!CollisionRules.canHit(type[attacker], type[target])) { return false; }
+
+        return sweptCollisions ? entities.isTouchingSwept(attacker, target) : entities.isTouching(attacker, target);
+    }
+
+    /**
+     * Looks up the hittable entities near an attacker's position, or near
+     * its whole path during the tick when collisions are swept. Only reads
+     * the grid, so it can be called from worker threads with their own query.
+     *
+     * @param query    the lookup buffer to collect the entities into
+     * @param attacker slot of the hitting entity
+     * @return the number of entities found
+     */
+    int collectTargets(SpatialHash.Query query, int attacker) {
+        int[] x = entities.x, y = entities.y;
+        if (!sweptCollisions) {
+            return query.collectNear(x[attacker], y[attacker], x[attacker], y[attacker]);
+        }
+        int[] previousX = entities.previousX, previousY = entities.previousY;
+        return query.collectNear(
+                Math.min(previousX[attacker], x[attacker]), Math.min(previousY[attacker], y[attacker]),
+                Math.max(previousX[attacker], x[attacker]), Math.max(previousY[attacker], y[attacker]));
+    }
+
+    /**
+     * Applies the effect of a hit, notifies the hit observers and schedules
+     * the entity that was hit for removal.
+     *
+     * @param attacker slot of the hitting entity
+     * @param target   slot of the entity that was hit
+     */
+    private void applyHit(int attacker, int target) {
+        int[] type = entities.type;
+        CollisionRules.applyEffect(CollisionRules.rule(type[attacker], type[target]), scoreboardData);
+        hitEvent.notifyObservers();
+        scheduledForRemoval.add(entities.objects[target]);
+
+        if (!GameEvents.isRecorderRunning()) { return; }
+
+        CollisionEvent event = new CollisionEvent();
+        if (event.shouldCommit()) {
+            event.tick = tickCount;
+            event.attackerType = EntityType.name(type[attacker]);
+            event.targetType = EntityType.name(type[target]);
+            event.targetX = entities.x[target];
+            event.targetY = entities.y[target];
+            event.commit();
+        }
+    }
+
+    /**
+     * Runs the collision phase on the worker threads, then applies the hits
+     * they found in attacker order, the order of the single-threaded loop.
+     * The hits of entities that touch along the whole width are collected
+     * by every partition, so they are merged in where each such attacker's
+     * slot falls between the other attackers.
+     *
+     * @param count number of entities in the store
+     */
+    private void collideInParallel(int count) {
+        runPartitions(TickPartition.COLLIDE, count);
+
+        int nextWide = 0;
+        for (TickPartition partition : partitions) {
+            pairTestsThisTick += partition.pairTests;
+            for (int h = 0; h < partition.hitCount; h++) {
+                while (nextWide < wideAttackerCount && wideAttackers[nextWide] < partition.hitAttackers[h]) {
+                    applyWideHits(wideAttackers[nextWide++]);
                 }
+                applyHit(partition.hitAttackers[h], partition.hitTargets[h]);
             }
+        }
+        while (nextWide < wideAttackerCount) {
+            applyWideHits(wideAttackers[nextWide++]);
+        }
+    }
 
-            for (IslandObject o : lasersToRemove) {
-                allObjects.remove(o);
-                hittableIslandSubjects.remove(o);
-                gamePane.getChildren().remove(o.getImageView());
+    /**
+     * Applies the hits of an entity that touches along the whole width
+     * found by every partition, in target order. Called for those entities
+     * in slot order, so each partition's hits are taken from the front.
+     *
+     * @param attacker slot of the hitting entity
+     */
+    private void applyWideHits(int attacker) {
+        for (TickPartition partition : partitions) {
+            int h = partition.wideHitsApplied;
+            while (h < partition.wideHitCount && partition.wideHitAttackers[h] == attacker) {
+                applyHit(attacker, partition.wideHitTargets[h++]);
             }
+            partition.wideHitsApplied = h;
+        }
+    }
+
+    /**
+     * Splits the slots into one contiguous range per partition and runs a
+     * tick phase on all of them, returning once every partition is done.
+     *
+     * @param phase TickPartition.STEP or TickPartition.COLLIDE
+     * @param count number of entities in the store
+     */
+    private void runPartitions(int phase, int count) {
+        for (int i = 0; i < partitions.length; i++) {
+            int from = (int) ((long) count * i / partitions.length);
+            int to = (int) ((long) count * (i + 1) / partitions.length);
+            partitions[i].prepare(phase, from, to, wideAttackers, wideAttackerCount);
+        }
+        ForkJoinTask.invokeAll(partitions);
+    }
+
+    /**
+     * Remembers the slot of an entity that touches along the whole width.
+     *
+     * @param slot the entity's slot
+     */
+    private void addWideAttacker(int slot) {
+        if (wideAttackerCount == wideAttackers.length) {
+            wideAttackers = Arrays.copyOf(wideAttackers, wideAttackerCount * 2);
         }
+        wideAttackers[wideAttackerCount++] = slot;
+    }
+
+    /**
+     * Commits the Flight Recorder event of a tick phase that just ended, if
+     * it is enabled, and starts timing the next phase. Does nothing unless
+     * Flight Recorder is running.
+     *
+     * @param event the event of the phase that ended (null when starting the tick)
+     * @param phase name of the phase that ended
+     * @return the event of the next phase, or null if Flight Recorder is not running
+     */
+    private TickPhaseEvent nextPhaseEvent(TickPhaseEvent event, String phase) {
+        if (!GameEvents.isRecorderRunning()) { return null; }
+
+        if (event != null && event.shouldCommit()) {
+            event.phase = phase;
+            event.tick = tickCount;
+            event.entities = entities.size();
+            event.commit();
+        }
+        TickPhaseEvent next = new TickPhaseEvent();
+        next.begin();
+        return next;
+    }
+
+    /**
+     * Commits a Flight Recorder event for a coconut or laser that entered
+     * the game, if recording is on.
+     *
+     * @param object the spawned object
+     * @param pooled whether the object was taken from its pool
+     */
+    private void commitSpawnEvent(IslandObject object, boolean pooled) {
+        if (!GameEvents.isRecorderRunning()) { return; }
+
+        SpawnEvent event = new SpawnEvent();
+        if (event.shouldCommit()) {
+            event.entityType = EntityType.name(object.getType());
+            event.x = object.getX();
+            event.y = object.getY();
+            event.pooled = pooled;
+            event.commit();
+        }
+    }
+
+    /**
+     * Removes every object scheduled for deletion from the entity store and
+     * the view in one pass. Coconuts and laser beams go back to their pools;
+     * a removed coconut, whether shot, beached or despawned, is no longer in
+     * flight.
+     */
+    void removeScheduledObjects() {
+        for (IslandObject thisObj : scheduledForRemoval) {
+            if (entities.kill(thisObj.slot)) {
+                view.objectRemoved(thisObj);
+                switch (entities.type[thisObj.slot]) {
+                    case EntityType.COCONUT -> {
+                        coconutsInFlight -= 1;
+                        coconutPool.release((Coconut) thisObj);
+                    }
+                    case EntityType.LASER -> laserPool.release((LaserBeam) thisObj);
+                    default -> { } // The crab and beach are never pooled
+                }
+            }
+        }
+        scheduledForRemoval.clear();
+        entities.compact();
+    }
+
+
+    // -------------------------------------------------------------------------
+    // SNAPSHOTS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Captures the complete state of the game between two ticks. Restoring
+     * the snapshot with GameSnapshot.restore() gives a game that plays on
+     * identically.
+     * <p>
+     * The snapshot is a private copy of the entity columns, so it can be
+     * encoded on another thread while the game keeps ticking.
+     * </p>
+     *
+     * @return the captured state
+     */
+    public GameSnapshot snapshot() {
+        GameSnapshot snapshot = new GameSnapshot(height, width, entities.size());
+        snapshot.seed = seed;
+        snapshot.randomState = random.getState();
+        snapshot.gameTick = gameTick;
+        snapshot.tickCount = tickCount;
+        snapshot.coconutsInFlight = coconutsInFlight;
+        snapshot.dropInterval = dropInterval;
+        snapshot.coconutsPerDrop = coconutsPerDrop;
+        snapshot.maxTime = maxTime;
+        snapshot.nextShotTick = nextShotTick;
+        snapshot.beachedCoconuts = scoreboardData.getBeachedCoconuts();
+        snapshot.destroyedCoconuts = scoreboardData.getDestroyedCoconuts();
+        snapshot.health = scoreboardData.getHealth();
+        snapshot.crabAlive = theCrab != null;
+        snapshot.sweptCollisions = sweptCollisions;
+
+        // Copy whole columns; much cheaper than walking the objects
+        int count = entities.size();
+        System.arraycopy(entities.type, 0, snapshot.type, 0, count);
+        System.arraycopy(entities.x, 0, snapshot.x, 0, count);
+        System.arraycopy(entities.y, 0, snapshot.y, 0, count);
+        System.arraycopy(entities.previousX, 0, snapshot.previousX, 0, count);
+        System.arraycopy(entities.previousY, 0, snapshot.previousY, 0, count);
+        System.arraycopy(entities.width, 0, snapshot.entityWidth, 0, count);
+        System.arraycopy(entities.velocityY, 0, snapshot.velocityY, 0, count);
+        return snapshot;
     }
 
 
@@ -268,10 +916,10 @@ public class OhCoconutsGameManager {
     /**
      * Determines whether the game is finished.
      *
-     * @return true if no coconuts are in flight and max game ticks reached
+     * @return true if max game ticks reached and every coconut dropped is gone
      */
     public boolean done() {
-        return coconutsInFlight == 0 && gameTick >= MAX_TIME;
+        return coconutsInFlight == 0 && gameTick >= maxTime;
     }
 }
 
@@ -0,0 +1,217 @@
+package coconuts;
+
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: PaneGameView
+ * Description: JavaFX adapter for the game's view sink. Each island object
+ *              that has an image is shown as its own ImageView inside the
+ *              game Pane; the ImageView is taken from a per-image pool when
+ *              the object is added and returned to it when the object is
+ *              removed, so ImageViews are not created over and over.
+ *              <p>
+ *              Adding or removing a child of the pane scans its child list
+ *              and fires a change event, so the ImageViews added and removed
+ *              during a tick are collected and applied to the pane in one
+ *              bulk operation each when the game commits the tick. Only
+ *              moving objects, and ones moved since they were last drawn,
+ *              have their ImageView repositioned when a frame is rendered.
+ *              </p>
+ *              <p>
+ *              All JavaFX code for drawing island objects lives here so that
+ *              the domain classes stay free of GUI logic.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class PaneGameView implements GameView {
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Maximum number of idle ImageViews kept per image. */
+    private static final int POOL_CAPACITY = 512;
+
+    /** JavaFX pane representing the game area. */
+    private final Pane gamePane;
+
+    /** ImageViews of the objects currently shown in the pane. */
+    private final Map<IslandObject, ImageView> imageViews = new HashMap<>();
+
+    /** Idle ImageViews kept for reuse, keyed by image file. */
+    private final Map<String, ObjectPool<ImageView>> imageViewPools = new HashMap<>();
+
+    /** ImageViews to add to the pane at the next commit, in the order they were added. */
+    private final Set<ImageView> pendingAdds = new LinkedHashSet<>();
+
+    /** ImageViews to remove from the pane at the next commit. */
+    private final Set<ImageView> pendingRemoves = new HashSet<>();
+
+    /** Objects at rest that were moved since their ImageView was last positioned. */
+    private final Set<IslandObject> dirtyObjects = new HashSet<>();
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates a view that draws island objects into the given pane.
+     *
+     * @param gamePane the JavaFX Pane used to display game objects
+     */
+    public PaneGameView(Pane gamePane) {
+        this.gamePane = gamePane;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // VIEW SINK METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Takes an ImageView for the object (if it has an image) from the pool,
+     * creating one if the pool is empty, and adds it to the pane at the next
+     * commit.
+     *
+     * @param object the newly registered object
+     */
+    @Override
+    public void objectAdded(IslandObject object) {
+        if (object.getImageFile() == null) { return; } // Nothing to draw
+
+        ImageView imageView = getPool(object.getImageFile()).acquire();
+        if (imageView == null) {
+            // Sprites come pre-scaled to the object's width, so no fit width is needed
+            imageView = new ImageView(AssetManager.getSprite(object.getImageFile(), object.getWidth()));
+        } else {
+            imageView.setVisible(true); // May have been hidden before it was pooled
+        }
+        imageViews.put(object, imageView);
+        imageView.setLayoutX(object.getX());
+        imageView.setLayoutY(object.getY());
+        if (!pendingRemoves.remove(imageView)) { // Still in the pane if it was removed this tick
+            pendingAdds.add(imageView);
+        }
+    }
+
+    /**
+     * Returns the object's ImageView to the pool and removes it from the
+     * pane at the next commit.
+     *
+     * @param object the removed object
+     */
+    @Override
+    public void objectRemoved(IslandObject object) {
+        ImageView imageView = imageViews.remove(object);
+        if (imageView != null) {
+            if (!pendingAdds.remove(imageView)) { // Never reached the pane if it was added this tick
+                pendingRemoves.add(imageView);
+            }
+            dirtyObjects.remove(object);
+            getPool(object.getImageFile()).release(imageView);
+        }
+    }
+
+    /**
+     * Marks the object's ImageView for repositioning at the next frame,
+     * even if the object is not moving then.
+     *
+     * @param object the object that moved
+     */
+    @Override
+    public void objectMoved(IslandObject object) {
+        if (imageViews.containsKey(object)) {
+            dirtyObjects.add(object);
+        }
+    }
+
+    /**
+     * Applies the ImageViews added and removed since the last commit to the
+     * pane, with one bulk removal and one bulk addition.
+     */
+    @Override
+    public void commit() {
+        if (!pendingRemoves.isEmpty()) {
+            gamePane.getChildren().removeAll(pendingRemoves);
+            pendingRemoves.clear();
+        }
+        if (!pendingAdds.isEmpty()) {
+            gamePane.getChildren().addAll(pendingAdds);
+            pendingAdds.clear();
+        }
+    }
+
+    /**
+     * Moves the ImageView of every moving or dirty object to the object's
+     * position interpolated between the last two ticks. Objects at rest
+     * keep their ImageView where it was last put.
+     *
+     * @param alpha fraction of a tick that has passed since the last tick (0 to 1)
+     */
+    @Override
+    public void render(double alpha) {
+        for (Map.Entry<IslandObject, ImageView> entry : imageViews.entrySet()) {
+            IslandObject object = entry.getKey();
+            if (!object.isMoving() && !dirtyObjects.remove(object)) { continue; } // At rest and already in place
+
+            ImageView imageView = entry.getValue();
+            imageView.setLayoutX(object.getRenderX(alpha));
+            imageView.setLayoutY(object.getRenderY(alpha));
+        }
+    }
+
+    /**
+     * Hides the object's ImageView without removing it from the pane.
+     *
+     * @param object the object to hide
+     */
+    @Override
+    public void objectHidden(IslandObject object) {
+        ImageView imageView = imageViews.get(object);
+        if (imageView != null) {
+            imageView.setVisible(false);
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // POOL COUNTERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the ImageView pools, keyed by image file, so their hit rate and
+     * high-water mark can be reported.
+     *
+     * @return the ImageView pools
+     */
+    public Map<String, ObjectPool<ImageView>> getImageViewPools() {
+        return imageViewPools;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the ImageView pool for the given image file, creating it on
+     * first use.
+     *
+     * @param imageFile path of the image relative to the working directory
+     * @return the pool of idle ImageViews showing that image
+     */
+    private ObjectPool<ImageView> getPool(String imageFile) {
+        return imageViewPools.computeIfAbsent(imageFile, f -> new ObjectPool<>(f, POOL_CAPACITY));
+    }
+}
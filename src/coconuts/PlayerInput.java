@@ -0,0 +1,97 @@
+package coconuts;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Enum Name: PlayerInput
+ * Description: The player actions handled by GameController.onKeyPressed.
+ *              LEFT, RIGHT and FIRE are held actions: while their key is
+ *              down, applyHeld() moves the crab or fires on every tick, so
+ *              the GUI and replay playback move the crab and fire in exactly
+ *              the same way. The ordinal is the action's code in replay
+ *              files and its bit in a held-action mask.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public enum PlayerInput {
+
+    /** LEFT arrow: move the crab left. */
+    LEFT,
+
+    /** RIGHT arrow: move the crab right. */
+    RIGHT,
+
+    /** UP arrow: fire a laser. */
+    FIRE,
+
+    /** SPACE: start or pause. Has no effect on the simulation itself. */
+    PAUSE;
+
+    /** All actions, indexed by code. */
+    private static final PlayerInput[] BY_CODE = values();
+
+    /** Distance in pixels the crab crawls per tick while LEFT or RIGHT is held. */
+    static final int CRAWL_DISTANCE = 10;
+
+    /**
+     * Returns this action's bit in a held-action mask.
+     *
+     * @return 1 shifted left by the action's code
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Performs the held actions for one tick: crawls towards the held arrow
+     * key (not at all if both are held) and fires if FIRE is held and the
+     * laser has cooled down.
+     *
+     * @param game     the game to control
+     * @param heldMask masks of the held actions, or-ed together
+     */
+    public static void applyHeld(OhCoconutsGameManager game, int heldMask) {
+        Crab crab = game.getCrab();
+        if (crab == null) { return; } // No crab to control
+
+        int direction = ((heldMask & RIGHT.mask()) != 0 ? 1 : 0) - ((heldMask & LEFT.mask()) != 0 ? 1 : 0);
+        if (direction != 0) {
+            crab.crawl(direction * CRAWL_DISTANCE);
+        }
+        if ((heldMask & FIRE.mask()) != 0) {
+            game.tryFireLaser();
+        }
+    }
+
+    /**
+     * Applies this action to the game once, as a single key press.
+     *
+     * @param game the game to control
+     */
+    public void apply(OhCoconutsGameManager game) {
+        Crab crab = game.getCrab();
+        if (crab == null) { return; } // No crab to control
+
+        switch (this) {
+            case LEFT -> crab.crawl(-CRAWL_DISTANCE);
+            case RIGHT -> crab.crawl(CRAWL_DISTANCE);
+            case FIRE -> game.tryShootLaser();
+            case PAUSE -> { }
+        }
+    }
+
+    /**
+     * Returns the action with the given replay code.
+     *
+     * @param code the code written to a replay file
+     * @return the matching action
+     * @throws IllegalArgumentException if no action has that code
+     */
+    static PlayerInput fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown input code " + code);
+        }
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,405 @@
+package coconuts;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: ReplayPlayer
+ * Description: Plays back a replay written by ReplayRecorder by re-simulating
+ *              the game headlessly at full speed. The file is indexed once
+ *              when it is loaded: inputs and held-action changes go into
+ *              flat tick/action arrays and
+ *              each checkpoint's position is remembered, so seek() can
+ *              restore the nearest checkpoint at or before the requested
+ *              tick and only simulate the remaining ticks.
+ *              <p>
+ *              verify() re-simulates the whole replay and compares the game
+ *              against every checkpoint, which proves the playback matches
+ *              the original session exactly.
+ *              </p>
+ *              <p>
+ *              Usage: ReplayPlayer replayFile [seekTick]
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public final class ReplayPlayer {
+
+    // -------------------------------------------------------------------------
+    // INDEX
+    // -------------------------------------------------------------------------
+
+    /** Contents of the replay file. */
+    private final ByteBuffer data;
+
+    /** Seed and playfield size of the recorded game. */
+    private final long seed;
+    private final int height, width;
+
+    /** Whether the recorded game tested hits along each object's path. */
+    private final boolean sweptCollisions;
+
+    /** Tick and action of each input, in recorded order. */
+    private int[] inputTicks = new int[64];
+    private PlayerInput[] inputs = new PlayerInput[64];
+    private int inputCount = 0;
+
+    /** Tick and new mask of each change of the held actions, in recorded order. */
+    private int[] heldTicks = new int[64];
+    private int[] heldMasks = new int[64];
+    private int heldCount = 0;
+
+    /**
+     * Tick, file position and length of each checkpoint, and the number of
+     * inputs and held-action changes before it.
+     */
+    private int[] checkpointTicks = new int[16];
+    private int[] checkpointOffsets = new int[16];
+    private int[] checkpointLengths = new int[16];
+    private int[] checkpointInputs = new int[16];
+    private int[] checkpointHeld = new int[16];
+    private int checkpointCount = 0;
+
+    /** Tick at which the recording ended. */
+    private int endTick;
+
+
+    // -------------------------------------------------------------------------
+    // PLAYBACK STATE
+    // -------------------------------------------------------------------------
+
+    /** Game being re-simulated. */
+    private OhCoconutsGameManager game;
+
+    /** Index of the next input to apply. */
+    private int nextInput;
+
+    /** Index of the next held-action change, and the actions held now. */
+    private int nextHeld;
+    private int heldMask;
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Indexes a replay and positions playback at its first tick.
+     *
+     * @param data the contents of a replay file
+     * @throws IllegalArgumentException if the data is not a valid replay, or one of an older version
+     */
+    public ReplayPlayer(ByteBuffer data) {
+        this.data = data;
+        try {
+            if (data.getInt() != ReplayRecorder.MAGIC) {
+                throw new IllegalArgumentException("Not a replay file");
+            }
+            int version = data.getInt();
+            if (version < ReplayRecorder.VERSION) {
+                throw new IllegalArgumentException("Replay version " + version + " was recorded by an older build"
+                        + " whose game plays differently; it cannot be played back (current version "
+                        + ReplayRecorder.VERSION + ")");
+            }
+            if (version > ReplayRecorder.VERSION) {
+                throw new IllegalArgumentException("Unsupported replay version " + version);
+            }
+            seed = data.getLong();
+            height = data.getInt();
+            width = data.getInt();
+            data.getInt(); // Checkpoint interval; the index makes it unnecessary for seeking
+            sweptCollisions = data.get() != 0;
+            index();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated replay file", e);
+        }
+        seek(0);
+    }
+
+    /**
+     * Loads and indexes a replay file.
+     *
+     * @param file the replay file
+     * @return a player positioned at the first tick
+     * @throws IOException if the file cannot be read
+     */
+    public static ReplayPlayer open(Path file) throws IOException {
+        return new ReplayPlayer(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+
+    // -------------------------------------------------------------------------
+    // ACCESSORS
+    // -------------------------------------------------------------------------
+
+    public OhCoconutsGameManager getGame() {
+        return game;
+    }
+
+    public int getTick() {
+        return game.getTickCount();
+    }
+
+    public int getEndTick() {
+        return endTick;
+    }
+
+    /**
+     * Returns the tick the recording starts at: 0, or the tick a restored
+     * game resumed from.
+     *
+     * @return the first tick of the recording
+     */
+    public int getStartTick() {
+        return checkpointCount > 0 ? checkpointTicks[0] : 0;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean isSweptCollisions() {
+        return sweptCollisions;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // PLAYBACK
+    // -------------------------------------------------------------------------
+
+    /**
+     * Moves playback to the given tick by restoring the last checkpoint at or
+     * before it and simulating forward from there.
+     *
+     * @param tick the tick to move to (clamped to the recording)
+     */
+    public void seek(int tick) {
+        tick = Math.max(getStartTick(), Math.min(tick, endTick));
+
+        int checkpoint = Arrays.binarySearch(checkpointTicks, 0, checkpointCount, tick);
+        if (checkpoint < 0) {
+            checkpoint = -checkpoint - 2; // Last checkpoint before the tick
+        }
+
+        if (checkpoint >= 0) {
+            game = readCheckpoint(checkpoint).restore(GameView.NONE);
+            nextInput = checkpointInputs[checkpoint];
+            nextHeld = checkpointHeld[checkpoint];
+        } else {
+            game = new OhCoconutsGameManager(height, width, GameView.NONE, seed);
+            game.setSweptCollisions(sweptCollisions); // Checkpoints restore it themselves
+            nextInput = 0;
+            nextHeld = 0;
+        }
+        heldMask = nextHeld > 0 ? heldMasks[nextHeld - 1] : 0;
+
+        while (game.getTickCount() < tick) {
+            step();
+        }
+    }
+
+    /**
+     * Applies the inputs recorded before the current tick and advances the
+     * game by one tick with the actions held during it, the same way
+     * GameController does.
+     */
+    public void step() {
+        int tick = game.getTickCount();
+        while (nextInput < inputCount && inputTicks[nextInput] <= tick) {
+            inputs[nextInput++].apply(game);
+        }
+        while (nextHeld < heldCount && heldTicks[nextHeld] <= tick) {
+            heldMask = heldMasks[nextHeld++];
+        }
+        game.tryDropCoconut();
+        game.advanceOneTick(heldMask);
+    }
+
+    /**
+     * Plays from the current tick to the end of the recording.
+     */
+    public void playToEnd() {
+        while (game.getTickCount() < endTick) {
+            step();
+        }
+    }
+
+    /**
+     * Re-simulates the whole replay from its first checkpoint (or its seed)
+     * and checks the game against every later checkpoint.
+     *
+     * @return the number of checkpoints that matched
+     * @throws IllegalStateException if the game diverges from a checkpoint
+     */
+    public int verify() {
+        seek(getStartTick());
+        for (int i = 1; i < checkpointCount; i++) {
+            while (game.getTickCount() < checkpointTicks[i]) {
+                step();
+            }
+            // Inputs recorded before the checkpoint were already applied when it was taken
+            while (nextInput < checkpointInputs[i]) {
+                inputs[nextInput++].apply(game);
+            }
+            while (nextHeld < checkpointHeld[i]) {
+                heldMask = heldMasks[nextHeld++];
+            }
+            byte[] expected = new byte[checkpointLengths[i]];
+            data.get(checkpointOffsets[i], expected);
+            if (!Arrays.equals(expected, game.snapshot().toBytes())) {
+                throw new IllegalStateException("Replay diverged at tick " + checkpointTicks[i]);
+            }
+        }
+        playToEnd();
+        return Math.max(0, checkpointCount - 1);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // MAIN
+    // -------------------------------------------------------------------------
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: ReplayPlayer replayFile [seekTick]");
+            return;
+        }
+        ReplayPlayer player = open(Path.of(args[0]));
+
+        long start = System.nanoTime();
+        int matched = player.verify();
+        double millis = (System.nanoTime() - start) / 1e6;
+        System.out.printf("Replayed %d ticks in %.1f ms; %d checkpoints match%n",
+                player.getEndTick() - player.getStartTick(), millis, matched);
+        printScore(player.getGame());
+
+        if (args.length > 1) {
+            int tick = Integer.parseInt(args[1]);
+            start = System.nanoTime();
+            player.seek(tick);
+            System.out.printf("Seeked to tick %d in %.2f ms%n", player.getTick(), (System.nanoTime() - start) / 1e6);
+            printScore(player.getGame());
+        }
+    }
+
+    /**
+     * Prints the statistics of the given game.
+     *
+     * @param game the game to describe
+     */
+    private static void printScore(OhCoconutsGameManager game) {
+        ScoreboardData data = game.getScoreboardData();
+        System.out.println("  tick " + game.getTickCount() + ": destroyed " + data.getDestroyedCoconuts()
+                + ", beached " + data.getBeachedCoconuts() + ", health " + data.getHealth());
+    }
+
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Reads every record after the header into the input and checkpoint
+     * arrays. Snapshots are not decoded here, only their positions noted.
+     */
+    private void index() {
+        int tick = 0;
+        while (data.hasRemaining()) {
+            byte tag = data.get();
+            tick += readVarint(data);
+            switch (tag) {
+                case ReplayRecorder.INPUT -> addInput(tick, PlayerInput.fromCode(data.get()));
+                case ReplayRecorder.HELD -> addHeld(tick, data.get());
+                case ReplayRecorder.CHECKPOINT -> {
+                    int length = readVarint(data);
+                    addCheckpoint(tick, data.position(), length);
+                    data.position(data.position() + length);
+                }
+                case ReplayRecorder.END -> {
+                    endTick = tick;
+                    return;
+                }
+                default -> throw new IllegalArgumentException("Unknown replay record " + tag);
+            }
+        }
+        endTick = tick; // Recording was cut off; play what is there
+    }
+
+    /**
+     * Appends an input to the index.
+     */
+    private void addInput(int tick, PlayerInput input) {
+        if (inputCount == inputTicks.length) {
+            inputTicks = Arrays.copyOf(inputTicks, inputCount * 2);
+            inputs = Arrays.copyOf(inputs, inputCount * 2);
+        }
+        inputTicks[inputCount] = tick;
+        inputs[inputCount++] = input;
+    }
+
+    /**
+     * Appends a change of the held actions to the index.
+     */
+    private void addHeld(int tick, int mask) {
+        if (heldCount == heldTicks.length) {
+            heldTicks = Arrays.copyOf(heldTicks, heldCount * 2);
+            heldMasks = Arrays.copyOf(heldMasks, heldCount * 2);
+        }
+        heldTicks[heldCount] = tick;
+        heldMasks[heldCount++] = mask;
+    }
+
+    /**
+     * Appends a checkpoint to the index.
+     */
+    private void addCheckpoint(int tick, int offset, int length) {
+        if (checkpointCount == checkpointTicks.length) {
+            int capacity = checkpointCount * 2;
+            checkpointTicks = Arrays.copyOf(checkpointTicks, capacity);
+            checkpointOffsets = Arrays.copyOf(checkpointOffsets, capacity);
+            checkpointLengths = Arrays.copyOf(checkpointLengths, capacity);
+            checkpointInputs = Arrays.copyOf(checkpointInputs, capacity);
+            checkpointHeld = Arrays.copyOf(checkpointHeld, capacity);
+        }
+        checkpointTicks[checkpointCount] = tick;
+        checkpointOffsets[checkpointCount] = offset;
+        checkpointLengths[checkpointCount] = length;
+        checkpointInputs[checkpointCount] = inputCount;
+        checkpointHeld[checkpointCount++] = heldCount;
+    }
+
+    /**
+     * Decodes the snapshot of the given checkpoint.
+     *
+     * @param checkpoint index of the checkpoint
+     * @return the decoded snapshot
+     */
+    private GameSnapshot readCheckpoint(int checkpoint) {
+        return GameSnapshot.decode(data.slice(checkpointOffsets[checkpoint], checkpointLengths[checkpoint]));
+    }
+
+    /**
+     * Reads an int written by ReplayRecorder.writeVarint.
+     *
+     * @param buffer buffer positioned at the varint
+     * @return the decoded value
+     */
+    static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in replay");
+    }
+}
@@ -0,0 +1,230 @@
+package coconuts;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: ReplayRecorder
+ * Description: Writes a compact binary replay of one game. Since the game is
+ *              deterministic for a given seed, only the seed and the player's
+ *              inputs are needed to reproduce it. Held keys are sampled once
+ *              per tick, so only the ticks at which the set of held actions
+ *              changes are stored, each as a one-byte tag, a varint tick
+ *              delta and a one-byte action mask. Single actions (pauses) are
+ *              stored the same way with an action code.
+ *              <p>
+ *              Every checkpointInterval ticks a full GameSnapshot is written
+ *              as well, so ReplayPlayer can seek to any tick by restoring the
+ *              nearest checkpoint instead of re-simulating from tick 0.
+ *              </p>
+ *              <p>
+ *              File layout: magic "CCRP", version, seed, height, width,
+ *              checkpoint interval and collision mode, followed by INPUT, HELD, CHECKPOINT and
+ *              END records in the order they happened.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class ReplayRecorder implements Closeable {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** First four bytes of every replay file ("CCRP"). */
+    static final int MAGIC = 0x43435250;
+
+    /**
+     * Version of the replay format. Bumped whenever replays of the previous
+     * version would no longer play back identically, so ReplayPlayer
+     * rejects them instead of failing to verify:
+     * 1 - first format;
+     * 2 - swept collision tests, and held keys stored as HELD records;
+     * 3 - collision mode in the header;
+     * 4 - held keys apply within the tick, right after the step;
+     * 5 - laser shots no longer shift the coconut drops;
+     * 6 - laser shots shift the coconut drops again, as up to version 4;
+     * 7 - coconuts stop dropping at the game's maximum time.
+     */
+    static final int VERSION = 7;
+
+    /** Record tags. */
+    static final byte INPUT = 1, CHECKPOINT = 2, END = 3, HELD = 4;
+
+    /** Default number of ticks between checkpoints (10 seconds at 30 ticks/s). */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 300;
+
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Stream the replay is written to. */
+    private final DataOutputStream out;
+
+    /** Game being recorded. */
+    private final OhCoconutsGameManager game;
+
+    /** Number of ticks between checkpoints. */
+    private final int checkpointInterval;
+
+    /** Tick of the last record written, for delta encoding. */
+    private int lastTick;
+
+    /** Tick of the last checkpoint written. */
+    private int lastCheckpointTick;
+
+    /** Held actions last written, to only record changes. */
+    private int lastHeldMask = 0;
+
+    /** Whether close() has been called. */
+    private boolean closed = false;
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Starts recording the game into the given file, writing the header and
+     * a checkpoint of the game's current state.
+     *
+     * @param file               file to write the replay to
+     * @param game               the game to record
+     * @param checkpointInterval number of ticks between checkpoints
+     * @throws IOException if the file cannot be written
+     */
+    public ReplayRecorder(Path file, OhCoconutsGameManager game, int checkpointInterval) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        this.game = game;
+        this.checkpointInterval = checkpointInterval;
+        this.lastTick = 0; // Deltas count from tick 0, even for a game restored mid-way
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(game.getSeed());
+        out.writeInt(game.getHeight());
+        out.writeInt(game.getWidth());
+        out.writeInt(checkpointInterval);
+        out.writeBoolean(game.isSweptCollisions());
+        writeCheckpoint();
+    }
+
+
+    // -------------------------------------------------------------------------
+    // RECORDING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Records an input the player applied to the game since the last tick.
+     *
+     * @param input the applied action
+     */
+    public void recordInput(PlayerInput input) {
+        try {
+            writeTag(INPUT);
+            out.writeByte(input.ordinal());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Records the actions held for the coming tick, if they changed since
+     * the last tick.
+     *
+     * @param heldMask masks of the held actions, as returned by InputState.sample()
+     */
+    public void recordHeld(int heldMask) {
+        if (heldMask == lastHeldMask) { return; }
+
+        try {
+            writeTag(HELD);
+            out.writeByte(heldMask);
+            lastHeldMask = heldMask;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Called before each tick; writes a checkpoint when one is due.
+     */
+    public void beforeTick() {
+        int tick = game.getTickCount();
+        if (tick % checkpointInterval == 0 && tick != lastCheckpointTick) {
+            try {
+                writeCheckpoint();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Writes the END record with the final tick and closes the file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) { return; }
+        closed = true;
+        try (out) {
+            writeTag(END);
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes a snapshot of the game's current state and flushes the file, so
+     * a crash loses at most one checkpoint interval.
+     */
+    private void writeCheckpoint() throws IOException {
+        byte[] snapshot = game.snapshot().toBytes();
+        writeTag(CHECKPOINT);
+        writeVarint(out, snapshot.length);
+        out.write(snapshot);
+        out.flush();
+        lastCheckpointTick = game.getTickCount();
+    }
+
+    /**
+     * Writes a record tag followed by the ticks since the previous record.
+     *
+     * @param tag the record tag
+     */
+    private void writeTag(byte tag) throws IOException {
+        int tick = game.getTickCount();
+        out.writeByte(tag);
+        writeVarint(out, tick - lastTick);
+        lastTick = tick;
+    }
+
+    /**
+     * Writes a non-negative int in 7-bit groups, low group first; the high
+     * bit of each byte says whether another byte follows.
+     *
+     * @param out   stream to write to
+     * @param value the value to write
+     */
+    static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
@@ -8,8 +8,10 @@ package coconuts;
  *              coconuts, and player health. Interacts with the GameController
  *              to update the labels in the JavaFX view.
  *
- *              The class uses a static reference to the controller to allow
- *              global updates without creating multiple instances.
+ *              Each Scoreboard shows the ScoreboardData of one game.
+ *              refresh() is called once per rendered frame. It does nothing
+ *              unless the data changed, and then only rewrites the labels
+ *              whose values differ from what is already shown.
  *
  * Author:   German Garrido-Lestache Belinchon
  *          garrido-lestachebeli
@@ -19,8 +21,14 @@ package coconuts;
  */
 public class Scoreboard {
 
-    /** Static reference to the GameController to update the UI. */
-    private static GameController controller;
+    /** Reference to the GameController to update the UI. */
+    private final GameController controller;
+
+    /** Statistics of the game shown by this scoreboard. */
+    private final ScoreboardData data;
+
+    /** Values currently shown by the labels (-1 = nothing shown yet). */
+    private int shownBeached = -1, shownDestroyed = -1, shownHealth = -1;
 
     // -------------------------------------------------------------------------
     // CONSTRUCTOR
@@ -30,32 +38,64 @@ public class Scoreboard {
      * Creates a new Scoreboard instance linked to a GameController.
      *
      * @param controller the GameController instance managing the UI labels
+     * @param data       the statistics of the game to show
      */
-    public Scoreboard(GameController controller) {
+    public Scoreboard(GameController controller, ScoreboardData data) {
         this.controller = controller;
+        this.data = data;
     }
 
     // -------------------------------------------------------------------------
-    // STATIC METHODS
+    // INSTANCE METHODS
     // -------------------------------------------------------------------------
 
     /**
-     * Updates the GameController with the current game statistics.
+     * Refreshes the labels from the game's ScoreboardData if it changed since
+     * the last refresh. Meant to be called once per rendered frame.
+     */
+    public void refresh() {
+        if (!data.consumeDirty()) { return; }
+
+        ScoreboardRefreshEvent event = GameEvents.isRecorderRunning() ? new ScoreboardRefreshEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        int labelsUpdated = update(data.getBeachedCoconuts(), data.getDestroyedCoconuts(), data.getHealth());
+        if (event != null && event.shouldCommit()) {
+            event.labelsUpdated = labelsUpdated;
+            event.commit();
+        }
+    }
+
+    /**
+     * Updates the GameController with the given game statistics, rewriting
+     * only the labels whose values changed.
      *
      * @param beachedCoconuts   number of coconuts that reached the beach
      * @param destroyedCoconuts number of coconuts destroyed by the crab
      * @param health            current health of the crab
+     * @return the number of labels that were rewritten
      */
-    public static void update(int beachedCoconuts, int destroyedCoconuts, int health) {
-        controller.changeCoconutsBeached(beachedCoconuts);
-        controller.changeCoconutsDestroyed(destroyedCoconuts);
-        controller.changeHealth(health);
+    public int update(int beachedCoconuts, int destroyedCoconuts, int health) {
+        int labelsUpdated = 0;
+        if (beachedCoconuts != shownBeached) {
+            controller.changeCoconutsBeached(beachedCoconuts);
+            shownBeached = beachedCoconuts;
+            labelsUpdated++;
+        }
+        if (destroyedCoconuts != shownDestroyed) {
+            controller.changeCoconutsDestroyed(destroyedCoconuts);
+            shownDestroyed = destroyedCoconuts;
+            labelsUpdated++;
+        }
+        if (health != shownHealth) {
+            controller.changeHealth(health);
+            shownHealth = health;
+            labelsUpdated++;
+        }
+        return labelsUpdated;
     }
 
-    // -------------------------------------------------------------------------
-    // INSTANCE METHODS
-    // -------------------------------------------------------------------------
-
     /**
      * Resets the scoreboard to the default initial values:
      * 0 beached coconuts, 0 destroyed coconuts, and full health (100).
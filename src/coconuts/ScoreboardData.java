@@ -1,5 +1,8 @@
 package coconuts;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * -----------------------------------------------------------------------------
@@ -7,7 +10,13 @@ package coconuts;
  * Description: Maintains the core game statistics for Oh Coconuts, including the
  *              number of beached coconuts, destroyed coconuts, and the crab's
  *              health. Provides methods to update, retrieve, and modify these
- *              values, and interacts with the Scoreboard class to update the UI.
+ *              values. Every change marks the data dirty; the Scoreboard
+ *              refreshes the labels once per frame only when it is.
+ *              <p>
+ *              Each OhCoconutsGameManager owns its own ScoreboardData, so any
+ *              number of games can run in one JVM. The counters are lock-free
+ *              (LongAdder / atomics), so hits can be recorded from any thread.
+ *              </p>
  * <p>
  * Author:   Dominic Celentano
  * @version 1.0
@@ -16,25 +25,20 @@ package coconuts;
  */
 public class ScoreboardData {
 
+    /** Health of the crab when a game starts. */
+    static final int INITIAL_HEALTH = 50;
+
     /** Number of coconuts that reached the beach. */
-    private static int beachedCoconuts = 0;
+    private final LongAdder beachedCoconuts = new LongAdder();
 
     /** Number of coconuts destroyed by the crab. */
-    private static int destroyedCoconuts = 0;
+    private final LongAdder destroyedCoconuts = new LongAdder();
 
     /** Health of the crab; minimum value is 0. */
-    private static int health = 50;
-
-    // -------------------------------------------------------------------------
-    // INSTANCE METHODS
-    // -------------------------------------------------------------------------
+    private final AtomicInteger health = new AtomicInteger(INITIAL_HEALTH);
 
-    /**
-     * Updates the linked Scoreboard UI with the current game statistics.
-     */
-    public void updateScore() {
-        Scoreboard.update(beachedCoconuts, destroyedCoconuts, health);
-    }
+    /** Whether any value changed since the scoreboard was last refreshed. */
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
 
     // -------------------------------------------------------------------------
     // ACCESSORS
@@ -45,8 +49,8 @@ public class ScoreboardData {
      *
      * @return the number of beached coconuts
      */
-    public static int getBeachedCoconuts() {
-        return beachedCoconuts;
+    public int getBeachedCoconuts() {
+        return beachedCoconuts.intValue();
     }
 
     /**
@@ -54,8 +58,8 @@ public class ScoreboardData {
      *
      * @return the number of destroyed coconuts
      */
-    public static int getDestroyedCoconuts() {
-        return destroyedCoconuts;
+    public int getDestroyedCoconuts() {
+        return destroyedCoconuts.intValue();
     }
 
     /**
@@ -63,8 +67,8 @@ public class ScoreboardData {
      *
      * @return the crab's health
      */
-    public static int getHealth() {
-        return health;
+    public int getHealth() {
+        return health.get();
     }
 
     // -------------------------------------------------------------------------
@@ -76,8 +80,9 @@ public class ScoreboardData {
      *
      * @param deltaBeachedCoconuts the number to add to the current beached coconuts
      */
-    public static void changeBeachCoconuts(int deltaBeachedCoconuts) {
-        beachedCoconuts += deltaBeachedCoconuts;
+    public void changeBeachCoconuts(int deltaBeachedCoconuts) {
+        beachedCoconuts.add(deltaBeachedCoconuts);
+        dirty.set(true);
     }
 
     /**
@@ -85,8 +90,9 @@ public class ScoreboardData {
      *
      * @param deltaDestroyedCoconuts the number to add to the current destroyed coconuts
      */
-    public static void changeDestroyedCoconuts(int deltaDestroyedCoconuts) {
-        destroyedCoconuts += deltaDestroyedCoconuts;
+    public void changeDestroyedCoconuts(int deltaDestroyedCoconuts) {
+        destroyedCoconuts.add(deltaDestroyedCoconuts);
+        dirty.set(true);
     }
 
     /**
@@ -95,11 +101,48 @@ public class ScoreboardData {
      *
      * @param deltaHealth the amount to change the health by
      */
-    public static void changeHealth(int deltaHealth) {
-        if ((health + deltaHealth) <= 0) {
-            health = 0;
-            return;
-        }
-        health += deltaHealth;
+    public void changeHealth(int deltaHealth) {
+        health.updateAndGet(h -> Math.max(0, h + deltaHealth));
+        dirty.set(true);
+    }
+
+    /**
+     * Replaces all statistics at once, e.g. when a game is restored from a
+     * snapshot.
+     *
+     * @param beached   number of beached coconuts
+     * @param destroyed number of destroyed coconuts
+     * @param health    health of the crab
+     */
+    void restore(int beached, int destroyed, int health) {
+        beachedCoconuts.reset();
+        beachedCoconuts.add(beached);
+        destroyedCoconuts.reset();
+        destroyedCoconuts.add(destroyed);
+        this.health.set(health);
+        dirty.set(true);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // DIRTY TRACKING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Marks the statistics as changed so the scoreboard refreshes on the
+     * next frame.
+     */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    /**
+     * Reports whether any statistic changed since the last call, and clears
+     * the flag.
+     *
+     * @return true if the scoreboard needs refreshing
+     */
+    public boolean consumeDirty() {
+        return dirty.getAndSet(false);
     }
 }
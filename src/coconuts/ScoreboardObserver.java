@@ -3,9 +3,11 @@ package coconuts;
 /**
  * -----------------------------------------------------------------------------
  * Class Name: ScoreboardObserver
- * Description: Observes hit events in the game and updates the Scoreboard UI
- *              accordingly. Implements the Observer pattern by extending
- *              AbstractObserver.
+ * Description: Observes hit events in the game and flags the Scoreboard UI
+ *              for a refresh. Implements the Observer pattern by extending
+ *              AbstractObserver. The labels themselves are refreshed at most
+ *              once per rendered frame by Scoreboard.refresh(), however many
+ *              hits happen in a tick.
  *
  * Author:   Dominic Celentano
  * @version 1.0
@@ -14,39 +16,25 @@ package coconuts;
  */
 public class ScoreboardObserver extends AbstractObserver {
 
-    /**
-     * Called when the observed HitEvent notifies its observers.
-     * Updates the Scoreboard with the latest game statistics.
-     */
-    @Override
-    public void update() {
-        Scoreboard.update(getBeachedCoconuts(), getDestroyedCoconuts(), getHealth());
-    }
+    /** Statistics of the game whose hits are observed. */
+    private final ScoreboardData data;
 
     /**
-     * Retrieves the number of coconuts that reached the beach.
+     * Creates an observer that flags the given game statistics for refresh.
      *
-     * @return the number of beached coconuts
+     * @param data the statistics of the observed game
      */
-    private int getBeachedCoconuts() {
-        return ScoreboardData.getBeachedCoconuts();
+    public ScoreboardObserver(ScoreboardData data) {
+        this.data = data;
     }
 
     /**
-     * Retrieves the number of coconuts destroyed by the crab.
-     *
-     * @return the number of destroyed coconuts
-     */
-    private int getDestroyedCoconuts() {
-        return ScoreboardData.getDestroyedCoconuts();
-    }
-
-    /**
-     * Retrieves the current health of the crab.
-     *
-     * @return the crab's health
+     * Called when the observed HitEvent notifies its observers.
+     * Marks the game statistics as changed so the Scoreboard refreshes on
+     * the next frame.
      */
-    private int getHealth() {
-        return ScoreboardData.getHealth();
+    @Override
+    public void update() {
+        data.markDirty();
     }
 }
@@ -0,0 +1,32 @@
+package coconuts;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: ScoreboardRefreshEvent
+ * Description: Flight Recorder event for a Scoreboard.refresh() that found
+ *              changed statistics, with the number of labels it rewrote.
+ *              Disabled unless a recording enables it.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+@Name("coconuts.ScoreboardRefresh")
+@Label("Scoreboard Refresh")
+@Category({"Oh Coconuts", "User Interface"})
+@Description("The scoreboard labels being brought up to date")
+@Enabled(false)
+@StackTrace(false)
+class ScoreboardRefreshEvent extends Event {
+
+    @Label("Labels Updated")
+    int labelsUpdated;
+}
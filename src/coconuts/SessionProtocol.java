@@ -0,0 +1,193 @@
+package coconuts;
+
+import java.nio.ByteBuffer;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: SessionProtocol
+ * Description: Binary protocol between SessionServer and its thin clients.
+ *              Every message is framed as a 2-byte length (of what follows),
+ *              a 1-byte message type and the payload, all big-endian.
+ *              <p>
+ *              Client to server:
+ *                JOIN      long seed         start a game with this seed
+ *                KEY_DOWN  byte input        a PlayerInput key was pressed
+ *                KEY_UP    byte input        a PlayerInput key was released
+ *                LEAVE                       end the game and disconnect
+ *              Server to client:
+ *                WELCOME   int session, short height, short width
+ *                STATE     int tick, int health, int destroyed, int beached,
+ *                          short count, count x (byte type, short x, short y)
+ *                GAME_OVER                   sent after the last STATE, once
+ *                                            the crab has died
+ *              </p>
+ *              <p>
+ *              Keys are sent as presses and releases rather than once per
+ *              tick, so an idle client sends nothing; the server folds them
+ *              into held keys with an InputState, like the GUI does. A STATE
+ *              message is sent after every tick and replaces the previous
+ *              one, so a client that cannot keep up can skip some.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public final class SessionProtocol {
+
+    // -------------------------------------------------------------------------
+    // MESSAGE TYPES
+    // -------------------------------------------------------------------------
+
+    /** Client to server message types. */
+    public static final byte JOIN = 1, KEY_DOWN = 2, KEY_UP = 3, LEAVE = 4;
+
+    /** Server to client message types. */
+    public static final byte WELCOME = 16, STATE = 17, GAME_OVER = 18;
+
+
+    // -------------------------------------------------------------------------
+    // SIZES
+    // -------------------------------------------------------------------------
+
+    /** Bytes of the length prefix. */
+    public static final int LENGTH_BYTES = 2;
+
+    /** Largest message, length prefix included. */
+    public static final int MAX_MESSAGE_BYTES = LENGTH_BYTES + 0xFFFF;
+
+    /** Bytes of a STATE message before its entity list, length prefix included. */
+    static final int STATE_HEADER_BYTES = LENGTH_BYTES + 1 + 4 + 4 + 4 + 4 + 2;
+
+    /** Bytes per entity in a STATE message. */
+    static final int STATE_ENTITY_BYTES = 1 + 2 + 2;
+
+    /** Most entities one STATE message can hold. */
+    static final int MAX_STATE_ENTITIES = (MAX_MESSAGE_BYTES - STATE_HEADER_BYTES) / STATE_ENTITY_BYTES;
+
+    private SessionProtocol() {
+        // Constants and helpers only
+    }
+
+
+    // -------------------------------------------------------------------------
+    // CLIENT MESSAGES
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes a JOIN message.
+     *
+     * @param out  the buffer to write to
+     * @param seed seed of the game to start
+     */
+    public static void putJoin(ByteBuffer out, long seed) {
+        out.putShort((short) 9).put(JOIN).putLong(seed);
+    }
+
+    /**
+     * Writes a KEY_DOWN or KEY_UP message.
+     *
+     * @param out     the buffer to write to
+     * @param pressed true for a press, false for a release
+     * @param input   the action whose key changed
+     */
+    public static void putKey(ByteBuffer out, boolean pressed, PlayerInput input) {
+        out.putShort((short) 2).put(pressed ? KEY_DOWN : KEY_UP).put((byte) input.ordinal());
+    }
+
+    /**
+     * Writes a LEAVE message.
+     *
+     * @param out the buffer to write to
+     */
+    public static void putLeave(ByteBuffer out) {
+        out.putShort((short) 1).put(LEAVE);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // SERVER MESSAGES
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes a WELCOME message.
+     *
+     * @param out     the buffer to write to
+     * @param session the id the server gave the session
+     * @param game    the session's game
+     */
+    static void putWelcome(ByteBuffer out, int session, OhCoconutsGameManager game) {
+        out.putShort((short) 9).put(WELCOME).putInt(session)
+                .putShort((short) game.getHeight()).putShort((short) game.getWidth());
+    }
+
+    /**
+     * Returns an upper bound on the size of the STATE message for a game,
+     * length prefix included.
+     *
+     * @param game the game to describe
+     * @return the most bytes putState() will write
+     */
+    static int stateBytes(OhCoconutsGameManager game) {
+        int count = Math.min(game.getEntities().size(), MAX_STATE_ENTITIES);
+        return STATE_HEADER_BYTES + count * STATE_ENTITY_BYTES;
+    }
+
+    /**
+     * Writes a STATE message describing a game after its last tick. Only the
+     * living entities are listed, in slot order; entities past
+     * MAX_STATE_ENTITIES are left out.
+     *
+     * @param out  the buffer to write to, with at least stateBytes(game) bytes left
+     * @param game the game to describe
+     */
+    static void putState(ByteBuffer out, OhCoconutsGameManager game) {
+        EntityStore entities = game.getEntities();
+        ScoreboardData score = game.getScoreboardData();
+        int start = out.position();
+        out.position(start + LENGTH_BYTES);
+        out.put(STATE).putInt(game.getTickCount()).putInt(score.getHealth())
+                .putInt(score.getDestroyedCoconuts()).putInt(score.getBeachedCoconuts());
+
+        int countAt = out.position(), count = 0;
+        out.position(countAt + 2);
+        int size = entities.size();
+        for (int slot = 0; slot < size && count < MAX_STATE_ENTITIES; slot++) {
+            if (entities.alive[slot] == 0) { continue; }
+
+            out.put((byte) entities.type[slot]).putShort((short) entities.x[slot]).putShort((short) entities.y[slot]);
+            count++;
+        }
+        out.putShort(countAt, (short) count);
+        out.putShort(start, (short) (out.position() - start - LENGTH_BYTES));
+    }
+
+    /**
+     * Writes a GAME_OVER message.
+     *
+     * @param out the buffer to write to
+     */
+    static void putGameOver(ByteBuffer out) {
+        out.putShort((short) 1).put(GAME_OVER);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // FRAMING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the length of the next complete message in a buffer being
+     * read, or -1 if it has not fully arrived yet. The buffer's position is
+     * left unchanged.
+     *
+     * @param in the buffer, flipped for reading
+     * @return the number of bytes after the length prefix, or -1
+     */
+    public static int nextMessageLength(ByteBuffer in) {
+        if (in.remaining() < LENGTH_BYTES) { return -1; }
+
+        int length = Short.toUnsignedInt(in.getShort(in.position()));
+        return in.remaining() >= LENGTH_BYTES + length ? length : -1;
+    }
+}
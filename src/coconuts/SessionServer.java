@@ -0,0 +1,328 @@
+package coconuts;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: SessionServer
+ * Description: Hosts many headless games in one JVM for remote thin clients,
+ *              speaking SessionProtocol over TCP. A client connects, sends
+ *              JOIN with a seed, sends its key presses and releases, and
+ *              receives the game state after every tick.
+ *              <p>
+ *              One thread does everything: a non-blocking selector loop
+ *              accepts connections and reads input, and between selects the
+ *              same loop is the tick scheduler for every session. All
+ *              sessions are ticked together in one round per tick, on a
+ *              fixed schedule like GameLoop's: a late round is caught up with
+ *              extra rounds, up to MAX_ROUNDS_BEHIND, after which the time is
+ *              dropped. With no locks or hand-offs between threads, the
+ *              number of sessions one server sustains at the target tick rate
+ *              is the number of sessions per core; run one server per core to
+ *              use more.
+ *              </p>
+ *              <p>
+ *              Every REPORT_SECONDS the number of sessions and the median,
+ *              99th percentile and worst round time are printed, with the
+ *              share of the tick budget the median round uses.
+ *              </p>
+ *              <p>
+ *              Usage: SessionServer [port] [ticksPerSecond] [--key=value ...]
+ *              (GameConfig options for the games)
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class SessionServer implements Runnable {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** Default port and tick rate (the GUI's). */
+    public static final int DEFAULT_PORT = 7777, DEFAULT_TICKS_PER_SECOND = 30;
+
+    /** Most rounds run back to back to catch up; beyond that the time is dropped. */
+    private static final int MAX_ROUNDS_BEHIND = 5;
+
+    /** Seconds between statistics lines. */
+    private static final int REPORT_SECONDS = 5;
+
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Selector watching the listening socket and every session's connection. */
+    private final Selector selector;
+
+    /** Listening socket. */
+    private final ServerSocketChannel listener;
+
+    /** Length of one tick in nanoseconds. */
+    private final long nanosPerTick;
+
+    /** Configuration every session's game is created with. */
+    private final GameConfig config;
+
+    /** Open sessions, in the order they connected. */
+    private final List<GameSession> sessions = new ArrayList<>();
+
+    /** Time taken by each round of ticks since the last report, in nanoseconds. */
+    private final Histogram roundTimes = new Histogram();
+
+    /** Id of the next session. */
+    private int nextSessionId = 1;
+
+    /** Rounds dropped since the last report because the server was too far behind. */
+    private long droppedRounds = 0;
+
+    /** Whether statistics lines are printed. */
+    private boolean reporting = true;
+
+    /** Cleared by stop() to end the loop. */
+    private volatile boolean running = true;
+
+    /** Number of open sessions, readable from other threads. */
+    private volatile int sessionCount = 0;
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Opens a server listening on the given address. It does not serve
+     * anyone until run() is called.
+     *
+     * @param address        address to listen on; port 0 picks a free port
+     * @param ticksPerSecond tick rate of every session
+     * @param config         configuration of the sessions' games
+     * @throws IOException if the socket cannot be opened or bound
+     */
+    public SessionServer(InetSocketAddress address, int ticksPerSecond, GameConfig config) throws IOException {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("ticksPerSecond must be positive: " + ticksPerSecond);
+        }
+        this.nanosPerTick = 1_000_000_000L / ticksPerSecond;
+        this.config = config;
+        this.selector = Selector.open();
+        this.listener = ServerSocketChannel.open();
+        listener.bind(address);
+        listener.configureBlocking(false);
+        listener.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // MAIN
+    // -------------------------------------------------------------------------
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int ticksPerSecond = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TICKS_PER_SECOND;
+        GameConfig config = GameConfig.parse(args.length > 2 ? Arrays.copyOfRange(args, 2, args.length)
+                : new String[0]);
+
+        SessionServer server = new SessionServer(new InetSocketAddress(port), ticksPerSecond, config);
+        System.out.println("Serving games on port " + server.getPort() + " at " + ticksPerSecond + " ticks/s");
+        server.run();
+    }
+
+
+    // -------------------------------------------------------------------------
+    // ACCESSORS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return the local port
+     * @throws IOException if the listening socket has been closed
+     */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) listener.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Returns the number of open sessions. May be called from any thread.
+     *
+     * @return the sessions connected, joined or not
+     */
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    /**
+     * Turns the periodic statistics lines on or off.
+     *
+     * @param reporting true to print statistics every REPORT_SECONDS
+     */
+    public void setReporting(boolean reporting) {
+        this.reporting = reporting;
+    }
+
+    /**
+     * Ends the loop and closes every session. May be called from any thread.
+     */
+    public void stop() {
+        running = false;
+        selector.wakeup();
+    }
+
+
+    // -------------------------------------------------------------------------
+    // LOOP
+    // -------------------------------------------------------------------------
+
+    /**
+     * Serves clients until stop() is called, then closes every connection.
+     */
+    @Override
+    public void run() {
+        long nextTick = System.nanoTime();
+        long nextReport = nextTick + REPORT_SECONDS * 1_000_000_000L;
+        try {
+            while (running) {
+                long wait = nextTick - System.nanoTime();
+                if (wait > 0) {
+                    selector.select(Math.max(1, wait / 1_000_000));
+                } else {
+                    selector.selectNow();
+                }
+                handleSelected();
+
+                long now = System.nanoTime();
+                int rounds = 0;
+                while (now >= nextTick && rounds < MAX_ROUNDS_BEHIND) {
+                    tickAll();
+                    nextTick += nanosPerTick;
+                    rounds++;
+                    now = System.nanoTime();
+                }
+                if (now >= nextTick) {
+                    droppedRounds += (now - nextTick) / nanosPerTick + 1;
+                    nextTick = now + nanosPerTick; // Too far behind: drop the rest rather than spiral
+                }
+
+                if (now >= nextReport) {
+                    report();
+                    nextReport = now + REPORT_SECONDS * 1_000_000_000L;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Session server failed: " + e.getMessage());
+        } finally {
+            for (GameSession session : sessions) {
+                session.close();
+            }
+            sessions.clear();
+            sessionCount = 0;
+            try {
+                listener.close();
+                selector.close();
+            } catch (IOException e) {
+                // Shutting down anyway
+            }
+        }
+    }
+
+    /**
+     * Accepts new connections, reads input from clients and sends output
+     * that did not fit into a channel earlier.
+     *
+     * @throws IOException if the listening socket fails
+     */
+    private void handleSelected() throws IOException {
+        Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+        while (selected.hasNext()) {
+            SelectionKey key = selected.next();
+            selected.remove();
+            if (!key.isValid()) { continue; }
+
+            if (key.isAcceptable()) {
+                accept();
+                continue;
+            }
+            GameSession session = (GameSession) key.attachment();
+            try {
+                if (key.isReadable() && !session.read()) {
+                    session.close();
+                    continue;
+                }
+                if (key.isValid() && key.isWritable()) {
+                    session.flush();
+                }
+            } catch (IOException e) {
+                session.close(); // Connection reset; the other sessions carry on
+            }
+        }
+    }
+
+    /**
+     * Accepts every pending connection as a new session.
+     *
+     * @throws IOException if the listening socket fails
+     */
+    private void accept() throws IOException {
+        for (SocketChannel channel = listener.accept(); channel != null; channel = listener.accept()) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true); // States are small and latency-bound
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            GameSession session = new GameSession(nextSessionId++, channel, key, config);
+            key.attach(session);
+            sessions.add(session);
+        }
+        sessionCount = sessions.size();
+    }
+
+    /**
+     * Runs one round: ticks every session once, then drops the sessions that
+     * are over.
+     */
+    private void tickAll() {
+        long start = System.nanoTime();
+        for (GameSession session : sessions) {
+            try {
+                session.tick();
+            } catch (IOException e) {
+                session.close();
+            }
+        }
+        sessions.removeIf(session -> {
+            if (!session.isOver()) { return false; }
+
+            session.close();
+            return true;
+        });
+        sessionCount = sessions.size();
+        roundTimes.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Prints the statistics since the last report and starts new ones.
+     */
+    private void report() {
+        if (reporting && roundTimes.getCount() > 0) {
+            double median = roundTimes.getPercentile(50) / 1e6;
+            System.out.printf("%d sessions: round median %.3f ms (%.0f%% of tick), p99 %.3f ms, worst %.3f ms,"
+                            + " %d rounds dropped%n",
+                    sessions.size(), median, 100 * median / (nanosPerTick / 1e6),
+                    roundTimes.getPercentile(99) / 1e6, roundTimes.getMax() / 1e6, droppedRounds);
+        }
+        roundTimes.reset();
+        droppedRounds = 0;
+    }
+}
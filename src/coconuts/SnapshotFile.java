@@ -0,0 +1,123 @@
+package coconuts;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: SnapshotFile
+ * Description: Saves and loads GameSnapshots as files through memory-mapped
+ *              FileChannels, so the snapshot is encoded straight into the
+ *              page cache and decoded straight out of it without extra
+ *              copies through stream buffers.
+ *              <p>
+ *              A file holds the snapshot's own versioned encoding followed
+ *              by a CRC32C of it. Saving writes a temporary file next to the
+ *              target and moves it into place, so a crash during an autosave
+ *              never leaves a half-written snapshot behind.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class SnapshotFile {
+
+    /** Bytes after the snapshot holding its checksum. */
+    private static final int CHECKSUM_BYTES = 4;
+
+    private SnapshotFile() {
+        // Static helpers only
+    }
+
+
+    // -------------------------------------------------------------------------
+    // SAVE
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes a snapshot to the given file, replacing it atomically.
+     *
+     * @param file     the file to write
+     * @param snapshot the snapshot to save
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(Path file, GameSnapshot snapshot) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        int size = snapshot.encodedSize();
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size + CHECKSUM_BYTES);
+            snapshot.encode(buffer);
+            buffer.putInt(checksum(buffer, size));
+            buffer.force(); // Make sure the data is on disk before it replaces the old file
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // LOAD
+    // -------------------------------------------------------------------------
+
+    /**
+     * Reads a snapshot written by save().
+     *
+     * @param file the file to read
+     * @return the decoded snapshot
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid snapshot
+     */
+    public static GameSnapshot load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < CHECKSUM_BYTES || fileSize > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Not a snapshot file: " + file);
+            }
+            int size = (int) fileSize - CHECKSUM_BYTES;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if (buffer.getInt(size) != checksum(buffer, size)) {
+                throw new IllegalArgumentException("Snapshot file is corrupt: " + file);
+            }
+            return GameSnapshot.decode(buffer.limit(size));
+        }
+    }
+
+    /**
+     * Loads a snapshot and rebuilds the game it was taken from.
+     *
+     * @param file the file to read
+     * @param view the view used to display game objects
+     * @return the restored game
+     * @throws IOException if the file cannot be read
+     */
+    public static OhCoconutsGameManager restore(Path file, GameView view) throws IOException {
+        return load(file).restore(view);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Computes the CRC32C of the first bytes of a buffer.
+     *
+     * @param buffer the buffer
+     * @param length number of bytes from the start to include
+     * @return the checksum
+     */
+    private static int checksum(ByteBuffer buffer, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(0, length));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,203 @@
+package coconuts;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: SocketStateSink
+ * Description: Sends a state stream to every spectator connected to a
+ *              loopback port. Runs on the game's tick thread without
+ *              blocking it: new connections are accepted when the encoder
+ *              asks whether a keyframe is needed, and writes that do not fit
+ *              into a socket are kept per spectator and sent with the next
+ *              record.
+ *              <p>
+ *              A spectator only receives records from a keyframe on, so it
+ *              can always decode them. One that falls MAX_BACKLOG_BYTES
+ *              behind is disconnected (it may connect again and start over
+ *              at a keyframe), so a stuck spectator never holds up the game
+ *              or grows without bound.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class SocketStateSink implements StateSink {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** Most unsent bytes kept for one spectator before it is disconnected. */
+    private static final int MAX_BACKLOG_BYTES = 256 * 1024;
+
+
+    // -------------------------------------------------------------------------
+    // SPECTATOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * One connected spectator.
+     */
+    private static final class Spectator {
+
+        /** Connection to the spectator. */
+        final SocketChannel channel;
+
+        /** Bytes not yet taken by the channel, in write mode. */
+        ByteBuffer backlog = ByteBuffer.allocate(4096);
+
+        /** Whether the spectator waits for a keyframe before it gets records. */
+        boolean waiting = true;
+
+        Spectator(SocketChannel channel) {
+            this.channel = channel;
+            StateStream.putHeader(backlog);
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Listening socket, non-blocking. */
+    private final ServerSocketChannel listener;
+
+    /** Connected spectators. */
+    private final List<Spectator> spectators = new ArrayList<>();
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Starts listening for spectators on a loopback port.
+     *
+     * @param port the port; 0 picks a free one
+     * @throws IOException if the port cannot be bound
+     */
+    public SocketStateSink(int port) throws IOException {
+        listener = ServerSocketChannel.open();
+        listener.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        listener.configureBlocking(false);
+    }
+
+    /**
+     * Returns the port spectators connect to.
+     *
+     * @return the local port
+     * @throws IOException if the socket has been closed
+     */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) listener.getLocalAddress()).getPort();
+    }
+
+
+    // -------------------------------------------------------------------------
+    // SINK METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Accepts pending spectators and asks for a keyframe if any spectator
+     * is waiting for one.
+     *
+     * @return true if a spectator waits for a keyframe
+     */
+    @Override
+    public boolean needsKeyframe() {
+        try {
+            for (SocketChannel channel = listener.accept(); channel != null; channel = listener.accept()) {
+                channel.configureBlocking(false);
+                spectators.add(new Spectator(channel));
+            }
+        } catch (IOException e) {
+            System.out.println("Could not accept spectator: " + e.getMessage());
+        }
+        for (Spectator spectator : spectators) {
+            if (spectator.waiting) { return true; }
+        }
+        return false;
+    }
+
+    /**
+     * Sends a record to every spectator that can decode it. Spectators whose
+     * connection failed or that are too far behind are dropped.
+     *
+     * @param record   the framed record
+     * @param keyframe whether the record is a KEYFRAME
+     */
+    @Override
+    public void write(ByteBuffer record, boolean keyframe) {
+        spectators.removeIf(spectator -> {
+            if (spectator.waiting && !keyframe) { return false; }
+
+            spectator.waiting = false;
+            if (spectator.backlog.position() + record.remaining() > MAX_BACKLOG_BYTES) {
+                closeQuietly(spectator.channel); // Not reading any more
+                return true;
+            }
+            append(spectator, record.duplicate());
+            try {
+                spectator.backlog.flip();
+                spectator.channel.write(spectator.backlog);
+                spectator.backlog.compact();
+                return false;
+            } catch (IOException e) {
+                closeQuietly(spectator.channel); // Spectator went away
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Disconnects every spectator and stops listening.
+     */
+    @Override
+    public void close() throws IOException {
+        for (Spectator spectator : spectators) {
+            closeQuietly(spectator.channel);
+        }
+        spectators.clear();
+        listener.close();
+    }
+
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Adds a record to a spectator's backlog, growing it if needed.
+     */
+    private static void append(Spectator spectator, ByteBuffer record) {
+        ByteBuffer backlog = spectator.backlog;
+        if (backlog.remaining() < record.remaining()) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(backlog.capacity() * 2,
+                    backlog.position() + record.remaining()));
+            backlog.flip();
+            spectator.backlog = larger.put(backlog);
+        }
+        spectator.backlog.put(record);
+    }
+
+    /**
+     * Closes a connection, ignoring errors.
+     */
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Already gone
+        }
+    }
+}
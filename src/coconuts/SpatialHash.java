@@ -0,0 +1,314 @@
+package coconuts;
+
+import java.util.Arrays;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: SpatialHash
+ * Description: Uniform-grid spatial hash used as the collision broadphase in
+ *              OhCoconutsGameManager. Hittable entity slots are bucketed by the
+ *              grid cell that contains their (x, y) position. With cells as
+ *              large as the touching distance, two objects can only be
+ *              touching if their cells are neighbours, so a lookup only has
+ *              to look at the 3 x 3 block of cells around a position.
+ *              <p>
+ *              For swept collision tests an entity can instead be inserted
+ *              into every cell covered by its motion during the tick, and a
+ *              lookup can cover a whole box of cells. Each entity is reported
+ *              at most once per lookup even if it sits in several cells.
+ *              </p>
+ *              <p>
+ *              The grid is rebuilt every tick. Buckets are singly linked lists
+ *              stored in int arrays, so rebuilding does not allocate once the
+ *              arrays have grown to the number of objects in play.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class SpatialHash {
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Side length of a grid cell in pixels. */
+    private final int cellSize;
+
+    /** First entry of each bucket, or -1 if the bucket is empty. */
+    private int[] bucketHeads = new int[16];
+
+    /** Next entry in the same bucket, or -1 at the end of the bucket. */
+    private int[] nextEntry = new int[16];
+
+    /** Grid cell of each entry; buckets can be shared by several cells. */
+    private int[] entryCellX = new int[16], entryCellY = new int[16];
+
+    /** Entity slot stored in each entry. */
+    private int[] entries = new int[16];
+
+    /** Number of entries currently in the grid. */
+    private int size = 0;
+
+    /** One more than the largest entity slot in the grid. */
+    private int slotLimit = 0;
+
+    /** Query used by collectNear() and nearby() on the grid itself. */
+    private final Query defaultQuery = new Query();
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates an empty spatial hash.
+     *
+     * @param cellSize side length of a grid cell; should be at least the
+     *                 distance at which objects count as touching
+     */
+    public SpatialHash(int cellSize) {
+        this.cellSize = cellSize;
+        Arrays.fill(bucketHeads, -1);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // BUILDING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Empties the grid and sizes it for the number of objects that are about
+     * to be inserted.
+     *
+     * @param expectedEntries number of objects that will be inserted
+     */
+    public void clear(int expectedEntries) {
+        // Keep at least two buckets per entry so that chains stay short
+        int buckets = Integer.highestOneBit(Math.max(16, expectedEntries * 2 - 1)) << 1;
+        if (buckets > bucketHeads.length) {
+            bucketHeads = new int[buckets];
+        }
+        if (expectedEntries > entries.length) {
+            nextEntry = new int[expectedEntries];
+            entryCellX = new int[expectedEntries];
+            entryCellY = new int[expectedEntries];
+            entries = new int[expectedEntries];
+        }
+        Arrays.fill(bucketHeads, -1);
+        size = 0;
+        slotLimit = 0;
+    }
+
+    /**
+     * Adds an entity to the cell containing its current position.
+     *
+     * @param slot the entity's slot in the entity store
+     * @param x    the entity's horizontal position
+     * @param y    the entity's vertical position
+     */
+    public void insert(int slot, int x, int y) {
+        addEntry(slot, Math.floorDiv(x, cellSize), Math.floorDiv(y, cellSize));
+    }
+
+    /**
+     * Adds an entity to every cell covered by the straight path it took
+     * during the tick, i.e. by the box spanned by its start and end points.
+     *
+     * @param slot   the entity's slot in the entity store
+     * @param startX horizontal position at the start of the tick
+     * @param startY vertical position at the start of the tick
+     * @param endX   horizontal position at the end of the tick
+     * @param endY   vertical position at the end of the tick
+     */
+    public void insertSwept(int slot, int startX, int startY, int endX, int endY) {
+        int minCellX = Math.floorDiv(Math.min(startX, endX), cellSize);
+        int maxCellX = Math.floorDiv(Math.max(startX, endX), cellSize);
+        int minCellY = Math.floorDiv(Math.min(startY, endY), cellSize);
+        int maxCellY = Math.floorDiv(Math.max(startY, endY), cellSize);
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                addEntry(slot, cx, cy);
+            }
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // QUERIES
+    // -------------------------------------------------------------------------
+
+    /**
+     * Finds every entity in the cell containing (x, y) or one of its eight
+     * neighbouring cells. The results are read back with nearby().
+     *
+     * @param x horizontal position to search around
+     * @param y vertical position to search around
+     * @return the number of entities found
+     */
+    public int collectNear(int x, int y) {
+        return defaultQuery.collectNear(x, y, x, y);
+    }
+
+    /**
+     * Finds every entity in the cells covering the given box or bordering
+     * it, each entity once. The results are read back with nearby().
+     *
+     * @param minX left edge of the box
+     * @param minY top edge of the box
+     * @param maxX right edge of the box
+     * @param maxY bottom edge of the box
+     * @return the number of entities found
+     */
+    public int collectNear(int minX, int minY, int maxX, int maxY) {
+        return defaultQuery.collectNear(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Returns one of the entities found by the last call to collectNear().
+     *
+     * @param index index of the result, from 0 to the count returned minus 1
+     * @return the entity's slot in the entity store
+     */
+    public int nearby(int index) {
+        return defaultQuery.nearby(index);
+    }
+
+    /**
+     * Creates a query with its own result buffer, for looking up from a
+     * thread other than the one using collectNear() on the grid.
+     *
+     * @return the new query
+     */
+    public Query newQuery() {
+        return new Query();
+    }
+
+
+    // -------------------------------------------------------------------------
+    // QUERY
+    // -------------------------------------------------------------------------
+
+    /**
+     * Result buffer of lookups in the grid. A query must only be used by
+     * one thread at a time, and not while the grid is being rebuilt.
+     */
+    public final class Query {
+
+        /** Entity slots found by the last call to collectNear(). */
+        private int[] found = new int[16];
+
+        /** Lookup number in which each entity slot was last reported, to skip duplicates. */
+        private int[] reportedIn = new int[16];
+
+        /** Number of the current lookup. */
+        private int lookup = 0;
+
+        private Query() {
+        }
+
+        /**
+         * Finds every entity in the cells covering the given box or bordering
+         * it, each entity once. The results are read back with nearby().
+         *
+         * @param minX left edge of the box
+         * @param minY top edge of the box
+         * @param maxX right edge of the box
+         * @param maxY bottom edge of the box
+         * @return the number of entities found
+         */
+        public int collectNear(int minX, int minY, int maxX, int maxY) {
+            int minCellX = Math.floorDiv(minX, cellSize) - 1;
+            int maxCellX = Math.floorDiv(maxX, cellSize) + 1;
+            int minCellY = Math.floorDiv(minY, cellSize) - 1;
+            int maxCellY = Math.floorDiv(maxY, cellSize) + 1;
+            int count = 0;
+
+            if (slotLimit > reportedIn.length) {
+                reportedIn = new int[Math.max(slotLimit, reportedIn.length * 2)];
+                lookup = 0;
+            }
+            if (++lookup == Integer.MAX_VALUE) {
+                Arrays.fill(reportedIn, 0); // Lookup numbers wrapped around
+                lookup = 1;
+            }
+            for (int cx = minCellX; cx <= maxCellX; cx++) {
+                for (int cy = minCellY; cy <= maxCellY; cy++) {
+                    for (int e = bucketHeads[bucket(cx, cy)]; e != -1; e = nextEntry[e]) {
+                        int slot = entries[e];
+                        if (entryCellX[e] == cx && entryCellY[e] == cy && reportedIn[slot] != lookup) {
+                            reportedIn[slot] = lookup;
+                            if (count == found.length) {
+                                found = Arrays.copyOf(found, count * 2);
+                            }
+                            found[count++] = slot;
+                        }
+                    }
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Returns one of the entities found by the last call to collectNear().
+         *
+         * @param index index of the result, from 0 to the count returned minus 1
+         * @return the entity's slot in the entity store
+         */
+        public int nearby(int index) {
+            return found[index];
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Adds one entry for an entity in a cell.
+     *
+     * @param slot  the entity's slot in the entity store
+     * @param cellX horizontal cell index
+     * @param cellY vertical cell index
+     */
+    private void addEntry(int slot, int cellX, int cellY) {
+        if (size == entries.length) {
+            grow();
+        }
+        slotLimit = Math.max(slotLimit, slot + 1);
+        int bucket = bucket(cellX, cellY);
+
+        entries[size] = slot;
+        entryCellX[size] = cellX;
+        entryCellY[size] = cellY;
+        nextEntry[size] = bucketHeads[bucket];
+        bucketHeads[bucket] = size;
+        size++;
+    }
+
+    /**
+     * Maps a grid cell to a bucket index.
+     *
+     * @param cellX horizontal cell index
+     * @param cellY vertical cell index
+     * @return index into bucketHeads
+     */
+    private int bucket(int cellX, int cellY) {
+        int h = cellX * 0x9E3779B1 + cellY * 0x85EBCA6B;
+        h ^= h >>> 16;
+        return h & (bucketHeads.length - 1);
+    }
+
+    /**
+     * Doubles the capacity of the entry arrays.
+     */
+    private void grow() {
+        int capacity = entries.length * 2;
+        nextEntry = Arrays.copyOf(nextEntry, capacity);
+        entryCellX = Arrays.copyOf(entryCellX, capacity);
+        entryCellY = Arrays.copyOf(entryCellY, capacity);
+        entries = Arrays.copyOf(entries, capacity);
+    }
+}
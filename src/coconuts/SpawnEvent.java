@@ -0,0 +1,41 @@
+package coconuts;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: SpawnEvent
+ * Description: Flight Recorder event for a coconut dropped by tryDropCoconut
+ *              or a laser fired by tryShootLaser, noting whether the object
+ *              came from its pool. Disabled unless a recording enables it.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+@Name("coconuts.Spawn")
+@Label("Spawn")
+@Category({"Oh Coconuts", "Entities"})
+@Description("A coconut or laser beam entering the game")
+@Enabled(false)
+@StackTrace(false)
+class SpawnEvent extends Event {
+
+    @Label("Entity Type")
+    String entityType;
+
+    @Label("X")
+    int x;
+
+    @Label("Y")
+    int y;
+
+    @Label("From Pool")
+    boolean pooled;
+}
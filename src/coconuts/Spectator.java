@@ -0,0 +1,283 @@
+package coconuts;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: Spectator
+ * Description: Watches a game through its state stream instead of running
+ *              it: from a file written with -Dcoconuts.stream=file, or live
+ *              from a game started with -Dcoconuts.streamPort=port. A reader
+ *              thread decodes the records and the window draws the latest
+ *              state, interpolating each entity along its velocity between
+ *              ticks like the game's own views. Files play back at the
+ *              game's 30 ticks per second.
+ *              <p>
+ *              With --stats nothing is shown and no JavaFX toolkit is
+ *              started; the stream is read to the end and its size per tick
+ *              is printed.
+ *              </p>
+ *              <p>
+ *              Usage: Spectator file | host:port
+ *                     Spectator --stats file | host:port
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class Spectator {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** Length of one tick when playing back a file. */
+    private static final long NANOS_PER_TICK = 1_000_000_000L / 30;
+
+    /** Height of the beach drawn below the playfield, as in the game window. */
+    private static final int BEACH_HEIGHT = 50;
+
+    /** Sprite and width of each entity type (see EntityType); the beach has no sprite. */
+    private static final String[] IMAGES = {null, Crab.IMAGE, Coconut.IMAGE, LaserBeam.IMAGE};
+    private static final int[] WIDTHS = {0, Crab.WIDTH, Coconut.WIDTH, LaserBeam.WIDTH};
+
+
+    // -------------------------------------------------------------------------
+    // FRAME
+    // -------------------------------------------------------------------------
+
+    /**
+     * State after one tick, copied from the decoder for the window to draw.
+     *
+     * @param tick    the tick
+     * @param scores  health, destroyed and beached coconuts
+     * @param count   number of entities
+     * @param columns type, x, y, vx and vy of each entity
+     * @param width   width of the playfield
+     * @param height  height of the playfield
+     * @param arrived System.nanoTime() when the tick was decoded
+     */
+    private record Frame(int tick, int[] scores, int count, int[][] columns, int width, int height, long arrived) {
+    }
+
+
+    // -------------------------------------------------------------------------
+    // MAIN
+    // -------------------------------------------------------------------------
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 2 && args[0].equals("--stats")) {
+            printStats(args[1]);
+        } else if (args.length == 1) {
+            Application.launch(Window.class, args);
+        } else {
+            System.out.println("Usage: Spectator [--stats] file | host:port");
+        }
+    }
+
+    /**
+     * Reads a whole stream and prints how many bytes its ticks took.
+     *
+     * @param source the file or host:port to read
+     */
+    private static void printStats(String source) throws IOException {
+        try (InputStream in = open(source)) {
+            StateStreamDecoder decoder = new StateStreamDecoder(in);
+            long records = 0, keyframes = 0, entities = 0;
+            while (decoder.next()) {
+                records++;
+                keyframes += decoder.isKeyframe() ? 1 : 0;
+                entities += decoder.getCount();
+            }
+            if (records == 0) {
+                System.out.println("The stream holds no ticks");
+                return;
+            }
+            System.out.printf("%d ticks (%d keyframes) in %d bytes: %.2f bytes/tick for %.1f entities on average%n",
+                    records, keyframes, decoder.getBytesRead(), (double) decoder.getBytesRead() / records,
+                    (double) entities / records);
+            System.out.printf("Last tick %d: health %d, destroyed %d, beached %d, %d entities%n",
+                    decoder.getTick(), decoder.getHealth(), decoder.getDestroyed(), decoder.getBeached(),
+                    decoder.getCount());
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // WINDOW
+    // -------------------------------------------------------------------------
+
+    /**
+     * JavaFX window showing the stream. Only loaded when a window is wanted,
+     * since the JavaFX launcher starts the toolkit for any Application class.
+     */
+    public static final class Window extends Application {
+
+        /** Latest decoded state, or null before the first keyframe. */
+        private volatile Frame latest;
+
+        /** Reason the stream ended, shown in the window, or null while it runs. */
+        private volatile String ended;
+
+        /** Sprite of each entity type, looked up once; null for the beach. */
+        private final Image[] sprites = new Image[IMAGES.length];
+
+        @Override
+        public void start(Stage stage) throws IOException {
+            AssetManager.preload();
+            for (int type = 0; type < IMAGES.length; type++) {
+                sprites[type] = IMAGES[type] != null ? AssetManager.getSprite(IMAGES[type], WIDTHS[type]) : null;
+            }
+            String source = getParameters().getRaw().get(0);
+            boolean live = !Files.exists(Path.of(source));
+            StateStreamDecoder decoder = new StateStreamDecoder(open(source));
+
+            Canvas canvas = new Canvas(BatchRunner.GAME_WIDTH, BatchRunner.GAME_HEIGHT + BEACH_HEIGHT);
+            stage.setTitle("Spectating " + source);
+            stage.setScene(new Scene(new Group(canvas)));
+            stage.show();
+
+            Thread reader = new Thread(() -> read(decoder, live), "spectator-reader");
+            reader.setDaemon(true);
+            reader.start();
+
+            new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    draw(canvas, now);
+                }
+            }.start();
+        }
+
+        /**
+         * Decodes the stream until it ends, publishing the state after every
+         * tick. Runs on the reader thread.
+         *
+         * @param decoder the stream's decoder
+         * @param live    false to pace the ticks at the game's rate
+         */
+        private void read(StateStreamDecoder decoder, boolean live) {
+            try {
+                long nextTick = System.nanoTime();
+                while (decoder.next()) {
+                    if (!decoder.isSynced()) { continue; }
+
+                    if (!live) {
+                        long wait = nextTick - System.nanoTime();
+                        if (wait > 0) {
+                            Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+                        }
+                        nextTick += NANOS_PER_TICK;
+                    }
+                    latest = copy(decoder);
+                }
+                ended = "Stream ended";
+            } catch (IOException | IllegalArgumentException e) {
+                ended = "Stream failed: " + e.getMessage();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Draws the latest state, moving each entity back along its velocity by
+         * the part of a tick that has not passed yet.
+         *
+         * @param canvas the canvas to draw into
+         * @param now    time of the frame in nanoseconds
+         */
+        private void draw(Canvas canvas, long now) {
+            Frame frame = latest;
+            GraphicsContext graphics = canvas.getGraphicsContext2D();
+            if (frame != null && (canvas.getWidth() != frame.width()
+                    || canvas.getHeight() != frame.height() + BEACH_HEIGHT)) {
+                canvas.setWidth(frame.width());
+                canvas.setHeight(frame.height() + BEACH_HEIGHT);
+                canvas.getScene().getWindow().sizeToScene();
+            }
+            double width = canvas.getWidth(), skyHeight = canvas.getHeight() - BEACH_HEIGHT;
+            graphics.setFill(Color.SKYBLUE);
+            graphics.fillRect(0, 0, width, skyHeight);
+            graphics.setFill(Color.TAN);
+            graphics.fillRect(0, skyHeight, width, BEACH_HEIGHT);
+
+            graphics.setFill(Color.DARKRED);
+            if (frame == null) {
+                graphics.fillText(ended != null ? ended : "Waiting for a keyframe...", 14, 20);
+                return;
+            }
+
+            double behind = 1 - Math.min(1.0, (double) (now - frame.arrived()) / NANOS_PER_TICK);
+            int[] types = frame.columns()[0], xs = frame.columns()[1], ys = frame.columns()[2];
+            int[] vxs = frame.columns()[3], vys = frame.columns()[4];
+            for (int i = 0; i < frame.count(); i++) {
+                Image sprite = sprites[types[i]];
+                if (sprite == null) { continue; }
+
+                graphics.drawImage(sprite, xs[i] - vxs[i] * behind, ys[i] - vys[i] * behind);
+            }
+
+            int[] scores = frame.scores();
+            graphics.fillText("Tick " + frame.tick() + "   Health: " + scores[0] + "   Coconuts Destroyed: " + scores[1]
+                    + "   Coconuts Beached: " + scores[2] + (ended != null ? "   (" + ended + ")" : ""), 14, 20);
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Opens a stream file, or connects to a streaming game if no such file
+     * exists and the source has the form host:port.
+     *
+     * @param source the file or host:port
+     * @return the stream, positioned at its header
+     */
+    private static InputStream open(String source) throws IOException {
+        Path file = Path.of(source);
+        if (Files.exists(file) || !source.contains(":")) {
+            return new BufferedInputStream(Files.newInputStream(file));
+        }
+        int colon = source.lastIndexOf(':');
+        Socket socket = new Socket(source.substring(0, colon), Integer.parseInt(source.substring(colon + 1)));
+        return new BufferedInputStream(socket.getInputStream());
+    }
+
+    /**
+     * Copies the decoder's state for the window.
+     *
+     * @param decoder the decoder, just after a tick
+     * @return the copied state
+     */
+    private static Frame copy(StateStreamDecoder decoder) {
+        int count = decoder.getCount();
+        int[][] columns = new int[5][count];
+        for (int i = 0; i < count; i++) {
+            columns[0][i] = decoder.getType(i);
+            columns[1][i] = decoder.getX(i);
+            columns[2][i] = decoder.getY(i);
+            columns[3][i] = decoder.getVelocityX(i);
+            columns[4][i] = decoder.getVelocityY(i);
+        }
+        int[] scores = {decoder.getHealth(), decoder.getDestroyed(), decoder.getBeached()};
+        return new Frame(decoder.getTick(), scores, count, columns, decoder.getWidth(), decoder.getHeight(),
+                System.nanoTime());
+    }
+}
@@ -0,0 +1,39 @@
+package coconuts;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Interface Name: StateSink
+ * Description: Destination of a StateStreamEncoder's records, such as a file
+ *              (FileStateSink) or connected spectators (SocketStateSink). A
+ *              sink writes the stream header itself, once per file or
+ *              connection, before the first record it passes on.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public interface StateSink extends Closeable {
+
+    /**
+     * Writes one framed record (varint length and payload).
+     *
+     * @param record   the record, between position and limit; not kept after the call
+     * @param keyframe whether the record is a KEYFRAME
+     * @throws IOException if the record cannot be written
+     */
+    void write(ByteBuffer record, boolean keyframe) throws IOException;
+
+    /**
+     * Tells whether the next record should be a keyframe, e.g. because a
+     * spectator has just connected. Asked once per tick.
+     *
+     * @return true to have the encoder write a keyframe next
+     */
+    default boolean needsKeyframe() {
+        return false;
+    }
+}
@@ -0,0 +1,146 @@
+package coconuts;
+
+import java.nio.ByteBuffer;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: StateStream
+ * Description: Format of the state stream written by StateStreamEncoder and
+ *              read by StateStreamDecoder, which lets spectators rebuild a
+ *              game's view without running the game.
+ *              <p>
+ *              A stream starts with magic "CCSS" and a version (4-byte ints)
+ *              and continues with one record per tick, each a varint length
+ *              and a payload starting with a tag:
+ *                KEYFRAME  tick, height, width, health, destroyed, beached,
+ *                          count, then per entity: id (delta from the
+ *                          previous id), type byte, x, y, vx, vy
+ *                DELTA     operations, in increasing id order:
+ *                          SPAWN  id, type byte, x, y, vx, vy
+ *                          REMOVE id
+ *                          MOVE   id, error x, error y
+ *                          SCORE  health, destroyed, beached
+ *              Numbers are varints; signed ones are zigzag-encoded first. Ids
+ *              in a DELTA are deltas from the previous operation's id.
+ *              </p>
+ *              <p>
+ *              A DELTA is the tick after the previous record. Both ends
+ *              predict that every entity moves by its last velocity (vx, vy);
+ *              an entity that ends up elsewhere gets a MOVE carrying the
+ *              error, which also sets its new velocity. Coconuts and laser beams
+ *              move in straight lines at constant speed, so a tick without
+ *              spawns, removals or crab turns is a 2-byte record. A KEYFRAME
+ *              holds the full state, so a reader can start from any keyframe.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public final class StateStream {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** First four bytes of every stream ("CCSS"). */
+    static final int MAGIC = 0x43435353;
+
+    /** Version of the stream format. */
+    static final int VERSION = 1;
+
+    /** Bytes of the stream header: magic and version. */
+    static final int HEADER_BYTES = 8;
+
+    /** Record tags. */
+    static final byte KEYFRAME = 1, DELTA = 2;
+
+    /** Operations of a DELTA record. */
+    static final byte SPAWN = 1, REMOVE = 2, MOVE = 3, SCORE = 4;
+
+    /** Most bytes one entity adds to a record: an operation, 5 varints and a type. */
+    static final int MAX_ENTITY_BYTES = 1 + 5 * 5 + 1;
+
+    /** Most bytes of a record besides its entities. */
+    static final int MAX_FIXED_BYTES = 5 + 1 + 7 * 5;
+
+    /** Default number of ticks between keyframes (5 seconds at 30 ticks/s). */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 150;
+
+    private StateStream() {
+        // Constants and helpers only
+    }
+
+
+    // -------------------------------------------------------------------------
+    // HEADER
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes the stream header.
+     *
+     * @param out buffer to write to
+     */
+    static void putHeader(ByteBuffer out) {
+        out.putInt(MAGIC).putInt(VERSION);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // VARINTS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes a non-negative int in 7-bit groups, low group first; the high
+     * bit of each byte says whether another byte follows.
+     *
+     * @param out   buffer to write to
+     * @param value the value to write
+     */
+    static void putVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    /**
+     * Writes a signed int as a zigzag varint, so small negative values take
+     * as few bytes as small positive ones.
+     *
+     * @param out   buffer to write to
+     * @param value the value to write
+     */
+    static void putSigned(ByteBuffer out, int value) {
+        putVarint(out, (value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Reads a varint written by putVarint().
+     *
+     * @param in buffer to read from
+     * @return the value
+     * @throws IllegalArgumentException if the varint is longer than an int
+     */
+    static int getVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) { return value; }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /**
+     * Reads a zigzag varint written by putSigned().
+     *
+     * @param in buffer to read from
+     * @return the value
+     */
+    static int getSigned(ByteBuffer in) {
+        int zigzag = getVarint(in);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+}
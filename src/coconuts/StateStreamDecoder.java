@@ -0,0 +1,370 @@
+package coconuts;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: StateStreamDecoder
+ * Description: Reads a StateStream and rebuilds the game's visible state
+ *              tick by tick: the scores and the id, type, position and
+ *              velocity of every entity, sorted by id. Used by spectators to
+ *              show a game they are not running.
+ *              <p>
+ *              Records before the first keyframe are skipped, so a reader
+ *              can join a stream at any point.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class StateStreamDecoder {
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Stream the records are read from. */
+    private final DataInputStream in;
+
+    /** Entities, sorted by id: id, type, position and velocity. */
+    private int[] ids = new int[64], types = new int[64], xs = new int[64], ys = new int[64],
+            vxs = new int[64], vys = new int[64];
+
+    /** Number of entities. */
+    private int count = 0;
+
+    /** Tick of the last record, and size of the playfield. */
+    private int tick, height, width;
+
+    /** Scores as of the last record. */
+    private int health, destroyed, beached;
+
+    /** Whether a keyframe has been read yet, and whether the last record was one. */
+    private boolean synced = false, keyframe = false;
+
+    /** Bytes read so far, header included. */
+    private long bytesRead = StateStream.HEADER_BYTES;
+
+    /** Payload of the record being read. */
+    private byte[] payload = new byte[1024];
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Starts reading a stream, checking its header.
+     *
+     * @param in the stream, positioned at its header
+     * @throws IOException              if the header cannot be read
+     * @throws IllegalArgumentException if the stream is not a state stream of this version
+     */
+    public StateStreamDecoder(InputStream in) throws IOException {
+        this.in = new DataInputStream(in);
+        if (this.in.readInt() != StateStream.MAGIC) {
+            throw new IllegalArgumentException("Not a state stream");
+        }
+        int version = this.in.readInt();
+        if (version != StateStream.VERSION) {
+            throw new IllegalArgumentException("Unsupported state stream version " + version);
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // READING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Reads the next record and applies it. Blocks until it has fully
+     * arrived.
+     *
+     * @return false at the end of the stream
+     * @throws IOException              if reading fails or the stream ends inside a record
+     * @throws IllegalArgumentException if the record is malformed
+     */
+    public boolean next() throws IOException {
+        int length;
+        try {
+            length = readVarint();
+        } catch (EOFException e) {
+            return false;
+        }
+        if (payload.length < length) {
+            payload = new byte[Math.max(length, payload.length * 2)];
+        }
+        in.readFully(payload, 0, length);
+        bytesRead += varintBytes(length) + length;
+
+        ByteBuffer record = ByteBuffer.wrap(payload, 0, length);
+        byte tag = record.get();
+        if (tag == StateStream.KEYFRAME) {
+            readKeyframe(record);
+        } else if (tag == StateStream.DELTA) {
+            keyframe = false;
+            if (synced) {
+                readDelta(record);
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown record tag " + tag);
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the state with a keyframe's.
+     *
+     * @param record the record after its tag
+     */
+    private void readKeyframe(ByteBuffer record) {
+        tick = StateStream.getVarint(record);
+        height = StateStream.getVarint(record);
+        width = StateStream.getVarint(record);
+        health = StateStream.getSigned(record);
+        destroyed = StateStream.getVarint(record);
+        beached = StateStream.getVarint(record);
+
+        count = StateStream.getVarint(record);
+        ensureCapacity(count);
+        int id = 0;
+        for (int i = 0; i < count; i++) {
+            id += StateStream.getVarint(record);
+            ids[i] = id;
+            readEntity(record, i);
+        }
+        synced = true;
+        keyframe = true;
+    }
+
+    /**
+     * Moves every entity by its velocity, then applies a delta's operations.
+     *
+     * @param record the record after its tag
+     */
+    private void readDelta(ByteBuffer record) {
+        tick++;
+
+        // Operations come in id order; entities before an operation's id just move as predicted
+        int i = 0, kept = 0, id = 0;
+        while (record.hasRemaining()) {
+            byte operation = record.get();
+            if (operation == StateStream.SCORE) {
+                health = StateStream.getSigned(record);
+                destroyed = StateStream.getVarint(record);
+                beached = StateStream.getVarint(record);
+                continue;
+            }
+            id += StateStream.getVarint(record);
+            while (i < count && ids[i] < id) {
+                predict(i++, kept++);
+            }
+
+            switch (operation) {
+                case StateStream.REMOVE -> {
+                    if (i == count || ids[i] != id) {
+                        throw new IllegalArgumentException("Removal of unknown entity " + id);
+                    }
+                    i++;
+                }
+                case StateStream.MOVE -> {
+                    if (i == count || ids[i] != id) {
+                        throw new IllegalArgumentException("Move of unknown entity " + id);
+                    }
+                    int errorX = StateStream.getSigned(record), errorY = StateStream.getSigned(record);
+                    vxs[i] += errorX;
+                    vys[i] += errorY;
+                    predict(i++, kept++);
+                }
+                case StateStream.SPAWN -> {
+                    if (i < count) {
+                        throw new IllegalArgumentException("Spawned entity " + id + " is not the newest");
+                    }
+                    ensureCapacity(kept + 1);
+                    ids[kept] = id;
+                    readEntity(record, kept++);
+                    i = count = kept; // Nothing left to predict, and later spawns go after this one
+                }
+                default -> throw new IllegalArgumentException("Unknown operation " + operation);
+            }
+        }
+        while (i < count) {
+            predict(i++, kept++);
+        }
+        count = kept;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // ACCESSORS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Determines whether the state is known, i.e. a keyframe has been read.
+     *
+     * @return true once the first keyframe has been read
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Determines whether the last record read was a keyframe.
+     *
+     * @return true if the last record was a keyframe
+     */
+    public boolean isKeyframe() {
+        return keyframe;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public int getDestroyed() {
+        return destroyed;
+    }
+
+    public int getBeached() {
+        return beached;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * Returns the number of entities.
+     *
+     * @return the number of entities in play
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /** Returns the id of the i-th entity, in increasing id order. */
+    public int getId(int i) {
+        return ids[i];
+    }
+
+    /** Returns the type of the i-th entity (see EntityType). */
+    public int getType(int i) {
+        return types[i];
+    }
+
+    /** Returns the position of the i-th entity. */
+    public int getX(int i) {
+        return xs[i];
+    }
+
+    public int getY(int i) {
+        return ys[i];
+    }
+
+    /** Returns the distance the i-th entity moved in the last tick. */
+    public int getVelocityX(int i) {
+        return vxs[i];
+    }
+
+    public int getVelocityY(int i) {
+        return vys[i];
+    }
+
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Moves an entity by its velocity, shifting it to a lower index on the
+     * way to close the gaps left by removed entities.
+     *
+     * @param from the entity's index
+     * @param to   its new index, at most from
+     */
+    private void predict(int from, int to) {
+        ids[to] = ids[from];
+        types[to] = types[from];
+        vxs[to] = vxs[from];
+        vys[to] = vys[from];
+        xs[to] = xs[from] + vxs[from];
+        ys[to] = ys[from] + vys[from];
+    }
+
+    /**
+     * Reads an entity's type, position and velocity.
+     *
+     * @param record the record to read from
+     * @param i      the entity's index
+     */
+    private void readEntity(ByteBuffer record, int i) {
+        types[i] = record.get();
+        xs[i] = StateStream.getSigned(record);
+        ys[i] = StateStream.getSigned(record);
+        vxs[i] = StateStream.getSigned(record);
+        vys[i] = StateStream.getSigned(record);
+    }
+
+    /**
+     * Reads a varint from the stream.
+     *
+     * @return the value
+     * @throws EOFException if the stream ends before the first byte
+     */
+    private int readVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) { return value; }
+        }
+        throw new IllegalArgumentException("Malformed record length");
+    }
+
+    /**
+     * Returns the number of bytes putVarint() writes for a value.
+     */
+    private static int varintBytes(int value) {
+        int bytes = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            bytes++;
+        }
+        return bytes;
+    }
+
+    /**
+     * Makes room for the given number of entities.
+     *
+     * @param entities the number of entities needed
+     */
+    private void ensureCapacity(int entities) {
+        if (ids.length >= entities) { return; }
+
+        int capacity = Math.max(entities, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        types = Arrays.copyOf(types, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        vxs = Arrays.copyOf(vxs, capacity);
+        vys = Arrays.copyOf(vys, capacity);
+    }
+}
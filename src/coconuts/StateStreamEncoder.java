@@ -0,0 +1,326 @@
+package coconuts;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: StateStreamEncoder
+ * Description: Turns a game into a StateStream, one record per tick, and
+ *              hands the records to a StateSink. The game manager calls
+ *              afterTick() at the end of every tick once the encoder is set
+ *              with setStateStream().
+ *              <p>
+ *              The encoder keeps its own copy of what a decoder knows: the
+ *              id, type, position and velocity of every entity, sorted by id
+ *              like the entity store. Each tick it walks both lists side by
+ *              side; ids only in its copy were removed, ids only in the store
+ *              were spawned, and entities in both are compared with where the
+ *              decoder will predict them. Since it applies exactly what it
+ *              writes, the decoder's state can never drift from it.
+ *              </p>
+ *              <p>
+ *              A keyframe is written when the encoder starts, every
+ *              keyframeInterval ticks, and whenever the sink asks for one.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class StateStreamEncoder implements Closeable {
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Game being streamed. */
+    private final OhCoconutsGameManager game;
+
+    /** Destination of the records. */
+    private final StateSink sink;
+
+    /** Number of ticks between keyframes. */
+    private final int keyframeInterval;
+
+    /** Decoder's view of the entities, sorted by id: id, type, position, velocity. */
+    private int[] ids = new int[64], types = new int[64], xs = new int[64], ys = new int[64],
+            vxs = new int[64], vys = new int[64];
+
+    /** Number of entities in the decoder's view. */
+    private int count = 0;
+
+    /** Scores as last written. */
+    private int health, destroyed, beached;
+
+    /** Ticks since the last keyframe. */
+    private int ticksSinceKeyframe = 0;
+
+    /** Payload of the record being written. */
+    private ByteBuffer payload = ByteBuffer.allocate(1024);
+
+    /** Framed record handed to the sink. */
+    private ByteBuffer record = ByteBuffer.allocate(1024);
+
+    /** Whether close() has been called. */
+    private boolean closed = false;
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Starts streaming the game, writing a keyframe of its current state.
+     *
+     * @param game             the game to stream
+     * @param sink             destination of the records
+     * @param keyframeInterval number of ticks between keyframes
+     * @throws IOException if the keyframe cannot be written
+     */
+    public StateStreamEncoder(OhCoconutsGameManager game, StateSink sink, int keyframeInterval) throws IOException {
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("keyframeInterval must be positive: " + keyframeInterval);
+        }
+        this.game = game;
+        this.sink = sink;
+        this.keyframeInterval = keyframeInterval;
+        writeKeyframe();
+    }
+
+
+    // -------------------------------------------------------------------------
+    // ENCODING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes the record for the tick that just ended: a keyframe when one is
+     * due, otherwise the changes since the last record.
+     *
+     * @throws UncheckedIOException if the sink fails
+     */
+    public void afterTick() {
+        try {
+            if (++ticksSinceKeyframe >= keyframeInterval || sink.needsKeyframe()) {
+                writeKeyframe();
+            } else {
+                writeDelta();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes the sink. No more records are written.
+     *
+     * @throws IOException if the sink cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) { return; }
+        closed = true;
+        sink.close();
+    }
+
+    /**
+     * Writes the full state of the game and makes it the decoder's view.
+     */
+    private void writeKeyframe() throws IOException {
+        EntityStore entities = game.getEntities();
+        ScoreboardData score = game.getScoreboardData();
+        int size = entities.size();
+        ensureCapacity(size);
+        health = score.getHealth();
+        destroyed = score.getDestroyedCoconuts();
+        beached = score.getBeachedCoconuts();
+
+        payload.clear();
+        payload.put(StateStream.KEYFRAME);
+        StateStream.putVarint(payload, game.getTickCount());
+        StateStream.putVarint(payload, game.getHeight());
+        StateStream.putVarint(payload, game.getWidth());
+        StateStream.putSigned(payload, health);
+        StateStream.putVarint(payload, destroyed);
+        StateStream.putVarint(payload, beached);
+
+        count = 0;
+        for (int slot = 0; slot < size; slot++) {
+            if (entities.alive[slot] != 0) {
+                take(entities, slot, count++);
+            }
+        }
+        StateStream.putVarint(payload, count);
+        int previousId = 0;
+        for (int i = 0; i < count; i++) {
+            StateStream.putVarint(payload, ids[i] - previousId);
+            previousId = ids[i];
+            putEntity(i);
+        }
+
+        ticksSinceKeyframe = 0;
+        send(true);
+    }
+
+    /**
+     * Writes the spawns, removals, mispredicted moves and score changes of
+     * the last tick, and applies them to the decoder's view.
+     */
+    private void writeDelta() throws IOException {
+        EntityStore entities = game.getEntities();
+        int size = entities.size();
+        int[] id = entities.id, x = entities.x, y = entities.y, alive = entities.alive;
+        ensureCapacity(size + count);
+
+        payload.clear();
+        payload.put(StateStream.DELTA);
+        int previousId = 0;
+
+        // Merge the decoder's view with the store, both sorted by id, compacting the view in place
+        int i = 0, kept = 0, slot = 0;
+        while (i < count || slot < size) {
+            if (slot < size && alive[slot] == 0) {
+                slot++;
+                continue;
+            }
+            int viewId = i < count ? ids[i] : Integer.MAX_VALUE;
+            int storeId = slot < size ? id[slot] : Integer.MAX_VALUE;
+
+            if (viewId < storeId) {
+                payload.put(StateStream.REMOVE);
+                StateStream.putVarint(payload, viewId - previousId);
+                previousId = viewId;
+                i++;
+            } else if (viewId == storeId) {
+                int predictedX = xs[i] + vxs[i], predictedY = ys[i] + vys[i];
+                if (x[slot] != predictedX || y[slot] != predictedY) {
+                    payload.put(StateStream.MOVE);
+                    StateStream.putVarint(payload, viewId - previousId);
+                    StateStream.putSigned(payload, x[slot] - predictedX);
+                    StateStream.putSigned(payload, y[slot] - predictedY);
+                    previousId = viewId;
+                    vxs[i] = x[slot] - xs[i];
+                    vys[i] = y[slot] - ys[i];
+                }
+                xs[i] = x[slot];
+                ys[i] = y[slot];
+                moveEntry(i++, kept++);
+                slot++;
+            } else {
+                // Spawned entities have the highest ids, so everything left in the view is behind them
+                payload.put(StateStream.SPAWN);
+                StateStream.putVarint(payload, storeId - previousId);
+                previousId = storeId;
+                take(entities, slot++, kept);
+                putEntity(kept++);
+            }
+        }
+        count = kept;
+
+        ScoreboardData score = game.getScoreboardData();
+        if (score.getHealth() != health || score.getDestroyedCoconuts() != destroyed
+                || score.getBeachedCoconuts() != beached) {
+            health = score.getHealth();
+            destroyed = score.getDestroyedCoconuts();
+            beached = score.getBeachedCoconuts();
+            payload.put(StateStream.SCORE);
+            StateStream.putSigned(payload, health);
+            StateStream.putVarint(payload, destroyed);
+            StateStream.putVarint(payload, beached);
+        }
+        send(false);
+    }
+
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Copies an entity from the store into the decoder's view, with the
+     * distance it moved in the last tick as its velocity.
+     *
+     * @param entities the game's entity store
+     * @param slot     the entity's slot in the store
+     * @param i        the entity's index in the view
+     */
+    private void take(EntityStore entities, int slot, int i) {
+        ids[i] = entities.id[slot];
+        types[i] = entities.type[slot];
+        xs[i] = entities.x[slot];
+        ys[i] = entities.y[slot];
+        vxs[i] = entities.x[slot] - entities.previousX[slot];
+        vys[i] = entities.y[slot] - entities.previousY[slot];
+    }
+
+    /**
+     * Writes an entity of the view as type, position and velocity.
+     *
+     * @param i the entity's index in the view
+     */
+    private void putEntity(int i) {
+        payload.put((byte) types[i]);
+        StateStream.putSigned(payload, xs[i]);
+        StateStream.putSigned(payload, ys[i]);
+        StateStream.putSigned(payload, vxs[i]);
+        StateStream.putSigned(payload, vys[i]);
+    }
+
+    /**
+     * Moves an entry of the view to a lower index.
+     *
+     * @param from the entry's index
+     * @param to   its new index, at most from
+     */
+    private void moveEntry(int from, int to) {
+        if (from == to) { return; }
+
+        ids[to] = ids[from];
+        types[to] = types[from];
+        xs[to] = xs[from];
+        ys[to] = ys[from];
+        vxs[to] = vxs[from];
+        vys[to] = vys[from];
+    }
+
+    /**
+     * Frames the payload with its length and passes it to the sink.
+     *
+     * @param keyframe whether the payload is a KEYFRAME
+     */
+    private void send(boolean keyframe) throws IOException {
+        payload.flip();
+        if (record.capacity() < payload.remaining() + 5) {
+            record = ByteBuffer.allocate(payload.capacity() + 5);
+        }
+        record.clear();
+        StateStream.putVarint(record, payload.remaining());
+        record.put(payload).flip();
+        sink.write(record, keyframe);
+    }
+
+    /**
+     * Makes room in the view and the payload for the given number of
+     * entities.
+     *
+     * @param entities the most entities the next record can hold
+     */
+    private void ensureCapacity(int entities) {
+        if (ids.length < entities) {
+            int capacity = Math.max(entities, ids.length * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            types = Arrays.copyOf(types, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            vxs = Arrays.copyOf(vxs, capacity);
+            vys = Arrays.copyOf(vys, capacity);
+        }
+        int bytes = StateStream.MAX_FIXED_BYTES + entities * StateStream.MAX_ENTITY_BYTES;
+        if (payload.capacity() < bytes) {
+            payload = ByteBuffer.allocate(Math.max(bytes, payload.capacity() * 2));
+        }
+    }
+}
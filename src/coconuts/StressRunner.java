@@ -0,0 +1,123 @@
+package coconuts;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: StressRunner
+ * Description: Runs one headless game under a configurable load to find the
+ *              entity counts at which ticks get slow. The GameConfig sets
+ *              how many coconuts drop and how often, how often the crab
+ *              fires automatically, the playfield size and the number of
+ *              ticks to run; raise initialHealth to keep the crab (and with
+ *              it the coconut drops) alive for the whole run, and maxTime to
+ *              keep the coconuts dropping until its end. Automatic
+ *              shots leave the game tick alone, unlike the player's shots,
+ *              so coconuts drop at the configured interval however often
+ *              the crab fires.
+ *              <p>
+ *              Every tick is timed. At the end the sustained ticks per
+ *              second, the median, 99th percentile and worst tick time and
+ *              the peak number of entities are printed.
+ *              </p>
+ *              <p>
+ *              Usage: StressRunner [--config=file.properties] [--key=value ...]
+ *                     [--seed=n] [--workers=n]
+ *              e.g. StressRunner --coconutsPerDrop=50 --dropInterval=1
+ *                     --autoFireInterval=2 --width=6000 --initialHealth=1000000
+ *                     --maxTime=5000
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+public class StressRunner {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** Options handled here rather than by GameConfig. */
+    private static final String SEED_OPTION = "--seed=", WORKERS_OPTION = "--workers=";
+
+
+    // -------------------------------------------------------------------------
+    // MAIN
+    // -------------------------------------------------------------------------
+
+    public static void main(String[] args) throws IOException {
+        long seed = 42;
+        int workers = 1;
+        List<String> configArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(SEED_OPTION)) {
+                seed = Long.parseLong(arg.substring(SEED_OPTION.length()));
+            } else if (arg.startsWith(WORKERS_OPTION)) {
+                workers = Integer.parseInt(arg.substring(WORKERS_OPTION.length()));
+            } else {
+                configArgs.add(arg);
+            }
+        }
+        GameConfig config = GameConfig.parse(configArgs.toArray(new String[0]));
+        System.out.println("Stress run: " + config + " seed=" + seed + " workers=" + workers);
+
+        run(config, seed, workers);
+    }
+
+    /**
+     * Plays the configured number of ticks, or until the crab dies or the
+     * game is done, and prints the tick rate and tick times.
+     *
+     * @param config  the load and length of the run
+     * @param seed    seed of the game
+     * @param workers number of threads each tick is split across
+     */
+    static void run(GameConfig config, long seed, int workers) {
+        OhCoconutsGameManager game = new OhCoconutsGameManager(config, GameView.NONE, seed);
+        game.setWorkerThreads(workers);
+
+        Histogram tickTimes = new Histogram();
+        int autoFireInterval = config.getAutoFireInterval();
+        int worstTick = 0, peakEntities = 0;
+        long worstNanos = 0;
+
+        long start = System.nanoTime();
+        int ticks = 0;
+        while (ticks < config.getRunTicks() && game.getCrab() != null && !game.done()) {
+            long tickStart = System.nanoTime();
+            if (autoFireInterval > 0 && ticks % autoFireInterval == 0) {
+                game.autoFireLaser(); // Leaves the drop cadence alone
+            }
+            game.tryDropCoconut();
+            game.advanceOneTick();
+            long nanos = System.nanoTime() - tickStart;
+
+            tickTimes.record(nanos);
+            if (nanos > worstNanos) {
+                worstNanos = nanos;
+                worstTick = ticks;
+            }
+            peakEntities = Math.max(peakEntities, game.getEntities().size());
+            ticks++;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        if (game.getCrab() == null) {
+            System.out.println("The crab died at tick " + ticks + "; raise " + GameConfig.KEY_INITIAL_HEALTH
+                    + " to keep the load up for the whole run");
+        } else if (game.done()) {
+            System.out.println("The game ended at tick " + ticks + "; raise " + GameConfig.KEY_MAX_TIME
+                    + " to keep the load up for the whole run");
+        }
+        ScoreboardData data = game.getScoreboardData();
+        System.out.printf("%d ticks in %.2f s: %.0f ticks/s sustained, peak %d entities%n",
+                ticks, seconds, ticks / seconds, peakEntities);
+        System.out.printf("tick time: median %.3f ms, p99 %.3f ms, worst %.3f ms (tick %d)%n",
+                tickTimes.getPercentile(50) / 1e6, tickTimes.getPercentile(99) / 1e6, worstNanos / 1e6, worstTick);
+        System.out.println("destroyed " + data.getDestroyedCoconuts() + ", beached " + data.getBeachedCoconuts()
+                + ", health " + data.getHealth());
+    }
+}
@@ -0,0 +1,219 @@
+package coconuts;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: TickPartition
+ * Description: One worker's share of a parallel tick in OhCoconutsGameManager.
+ *              A partition owns a contiguous range of entity slots and runs
+ *              one phase of the tick over it: moving the entities in its
+ *              range, or testing the attackers in its range against the
+ *              spatial hash.
+ *              <p>
+ *              The collision phase only reads the entity store and the grid.
+ *              Hits are written to the partition's own buffers, in the order
+ *              the single-threaded loop would find them, and the game manager
+ *              applies them afterwards on its own thread. That keeps scores,
+ *              hit notifications and removals identical to a single-threaded
+ *              tick. Attackers that touch along the whole width (the beach)
+ *              are tested against every target; each partition tests them
+ *              against the targets in its own range instead.
+ *              </p>
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+final class TickPartition extends RecursiveAction {
+
+    // -------------------------------------------------------------------------
+    // CONSTANTS
+    // -------------------------------------------------------------------------
+
+    /** Phase that moves the entities in the range. */
+    static final int STEP = 0;
+
+    /** Phase that tests the attackers (and whole-width targets) in the range for hits. */
+    static final int COLLIDE = 1;
+
+    /**
+     * Partitions are never serialized; RecursiveAction is Serializable only
+     * through ForkJoinTask, so the references to the game are transient.
+     */
+    private static final long serialVersionUID = 1L;
+
+
+    // -------------------------------------------------------------------------
+    // FIELDS
+    // -------------------------------------------------------------------------
+
+    /** Game whose tick this partition is part of. */
+    private final transient OhCoconutsGameManager game;
+
+    /** Store holding the entities of the game. */
+    private final transient EntityStore entities;
+
+    /** This partition's own lookup buffer in the game's grid. */
+    private final transient SpatialHash.Query query;
+
+    /** Phase to run next (STEP or COLLIDE). */
+    private int phase;
+
+    /** Range of slots this partition works on, from inclusive to exclusive. */
+    private int from, to;
+
+    /** Slots of the attackers that touch along the whole width, in slot order, and their number. */
+    private int[] wideAttackers;
+    private int wideAttackerCount;
+
+    /** Attacker and target slot of each hit found, in the order they were found. */
+    int[] hitAttackers = new int[16], hitTargets = new int[16];
+
+    /** Number of hits found by attackers that do not touch along the whole width. */
+    int hitCount;
+
+    /**
+     * Hits of the whole-width attackers on targets in this partition's
+     * range, by attacker and then target slot.
+     */
+    int[] wideHitAttackers = new int[16], wideHitTargets = new int[16];
+
+    /** Number of hits by whole-width attackers, and how many the game has applied so far. */
+    int wideHitCount, wideHitsApplied;
+
+    /** Number of pair tests made by the last collision phase. */
+    int pairTests;
+
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTOR
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates a partition working on the given game.
+     *
+     * @param game  the game whose ticks are split up
+     * @param query lookup buffer in the game's grid, not shared with other partitions
+     */
+    TickPartition(OhCoconutsGameManager game, SpatialHash.Query query) {
+        this.game = game;
+        this.entities = game.getEntities();
+        this.query = query;
+    }
+
+
+    // -------------------------------------------------------------------------
+    // SCHEDULING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Prepares the partition to run a phase over a range of slots. Must be
+     * called before each run, since a task can only run once per reset.
+     *
+     * @param phase             STEP or COLLIDE
+     * @param from              first slot of the range
+     * @param to                slot after the last one in the range
+     * @param wideAttackers     slots of the attackers that touch along the whole width, in slot order
+     * @param wideAttackerCount number of such attackers
+     */
+    void prepare(int phase, int from, int to, int[] wideAttackers, int wideAttackerCount) {
+        reinitialize();
+        this.phase = phase;
+        this.from = from;
+        this.to = to;
+        this.wideAttackers = wideAttackers;
+        this.wideAttackerCount = wideAttackerCount;
+    }
+
+    /**
+     * Runs the prepared phase.
+     */
+    @Override
+    protected void compute() {
+        if (phase == STEP) {
+            entities.stepRange(from, to);
+        } else {
+            collide();
+        }
+    }
+
+
+    // -------------------------------------------------------------------------
+    // COLLISION PHASE
+    // -------------------------------------------------------------------------
+
+    /**
+     * Tests the attackers in the range against their nearby targets and the
+     * whole-width attackers against the targets in the range, recording
+     * every hit.
+     */
+    private void collide() {
+        int[] type = entities.type;
+        hitCount = 0;
+        wideHitCount = 0;
+        wideHitsApplied = 0;
+        pairTests = 0;
+
+        for (int attacker = from; attacker < to; attacker++) {
+            if (!CollisionRules.canHitAnything(type[attacker])
+                    || CollisionRules.touchesWholeWidth(type[attacker])) { continue; }
+
+            int nearby = game.collectTargets(query, attacker);
+            for (int k = 0; k < nearby; k++) {
+                int target = query.nearby(k);
+                pairTests++;
+                if (game.isHit(attacker, target)) {
+                    addHit(attacker, target);
+                }
+            }
+        }
+
+        for (int w = 0; w < wideAttackerCount; w++) {
+            int attacker = wideAttackers[w];
+            if (!CollisionRules.canHitAnything(type[attacker])) { continue; }
+
+            for (int target = from; target < to; target++) {
+                if (!CollisionRules.canBeHit(type[target])) { continue; }
+
+                pairTests++;
+                if (game.isHit(attacker, target)) {
+                    addWideHit(attacker, target);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records a hit by an attacker that touches along the whole width.
+     *
+     * @param attacker slot of the hitting entity
+     * @param target   slot of the entity that was hit
+     */
+    private void addWideHit(int attacker, int target) {
+        if (wideHitCount == wideHitAttackers.length) {
+            wideHitAttackers = Arrays.copyOf(wideHitAttackers, wideHitCount * 2);
+            wideHitTargets = Arrays.copyOf(wideHitTargets, wideHitCount * 2);
+        }
+        wideHitAttackers[wideHitCount] = attacker;
+        wideHitTargets[wideHitCount] = target;
+        wideHitCount++;
+    }
+
+    /**
+     * Records a hit by an attacker that does not touch along the whole width.
+     *
+     * @param attacker slot of the hitting entity
+     * @param target   slot of the entity that was hit
+     */
+    private void addHit(int attacker, int target) {
+        if (hitCount == hitAttackers.length) {
+            hitAttackers = Arrays.copyOf(hitAttackers, hitCount * 2);
+            hitTargets = Arrays.copyOf(hitTargets, hitCount * 2);
+        }
+        hitAttackers[hitCount] = attacker;
+        hitTargets[hitCount] = target;
+        hitCount++;
+    }
+}
@@ -0,0 +1,39 @@
+package coconuts;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: TickPhaseEvent
+ * Description: Flight Recorder event covering one phase (step, despawn,
+ *              collision or removal) of OhCoconutsGameManager.advanceOneTick.
+ *              Disabled unless a recording enables it, e.g. with
+ *              jfr/coconuts.jfc.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+@Name("coconuts.TickPhase")
+@Label("Tick Phase")
+@Category({"Oh Coconuts", "Game Loop"})
+@Description("One phase of a game tick")
+@Enabled(false)
+@StackTrace(false)
+class TickPhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Tick")
+    int tick;
+
+    @Label("Entities")
+    int entities;
+}
@@ -0,0 +1,91 @@
+package coconuts;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: GameSnapshotTest
+ * Description: Checks that snapshots survive encoding and SnapshotFile, and
+ *              that a restored game plays on exactly like the original.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+class GameSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void encodingRoundTrips() {
+        byte[] bytes = play(TestGames.newGame(11), 300).snapshot().toBytes();
+
+        assertArrayEquals(bytes, GameSnapshot.decode(ByteBuffer.wrap(bytes)).toBytes());
+    }
+
+    @Test
+    void restoredGamePlaysOnIdentically() {
+        OhCoconutsGameManager original = play(TestGames.newGame(11), 300);
+        byte[] bytes = original.snapshot().toBytes();
+        OhCoconutsGameManager restored = GameSnapshot.decode(ByteBuffer.wrap(bytes)).restore(GameView.NONE);
+        assertEquals(original.getTickCount(), restored.getTickCount());
+
+        play(original, 300);
+        play(restored, 300);
+        assertArrayEquals(original.snapshot().toBytes(), restored.snapshot().toBytes());
+    }
+
+    @Test
+    void restoresTheCollisionMode() {
+        OhCoconutsGameManager game = TestGames.newGame(11);
+        game.setSweptCollisions(!game.isSweptCollisions());
+
+        assertEquals(game.isSweptCollisions(), game.snapshot().restore(GameView.NONE).isSweptCollisions());
+    }
+
+    @Test
+    void snapshotFileRoundTrips() throws IOException {
+        GameSnapshot snapshot = play(TestGames.newGame(11), 300).snapshot();
+        Path file = directory.resolve("game.snapshot");
+        SnapshotFile.save(file, snapshot);
+
+        assertArrayEquals(snapshot.toBytes(), SnapshotFile.load(file).toBytes());
+    }
+
+    @Test
+    void snapshotFileRejectsCorruption() throws IOException {
+        Path file = directory.resolve("game.snapshot");
+        SnapshotFile.save(file, play(TestGames.newGame(11), 300).snapshot());
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(file, bytes);
+
+        assertThrows(IllegalArgumentException.class, () -> SnapshotFile.load(file));
+    }
+
+    /**
+     * Plays a game on, dropping coconuts and firing now and then.
+     *
+     * @param game  the game to play
+     * @param ticks the number of ticks to play
+     * @return the game
+     */
+    private static OhCoconutsGameManager play(OhCoconutsGameManager game, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            game.tryDropCoconut();
+            game.advanceOneTick(game.getTickCount() % 20 < 5 ? PlayerInput.FIRE.mask() : 0);
+        }
+        return game;
+    }
+}
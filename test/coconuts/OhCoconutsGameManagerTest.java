@@ -0,0 +1,72 @@
+package coconuts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: OhCoconutsGameManagerTest
+ * Description: Checks how a game ends: coconuts stop dropping at maxTime
+ *              and the game is done once the last one is gone.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+class OhCoconutsGameManagerTest {
+
+    @Test
+    void gameIsDoneOnceTheLastCoconutIsGoneAfterMaxTime() {
+        Properties rules = new Properties();
+        rules.setProperty(GameConfig.KEY_INITIAL_HEALTH, "1000"); // Keep the crab alive to the end
+        GameConfig config = GameConfig.DEFAULT.with(rules);
+        OhCoconutsGameManager game = new OhCoconutsGameManager(config, GameView.NONE, 3);
+
+        int ticks = 0;
+        while (!game.done() && ticks < 10 * config.getMaxTime()) {
+            assertTrue(ticks <= config.getMaxTime() || coconuts(game) > 0 || game.done(),
+                    "no coconuts left at tick " + ticks + " but the game is not done");
+            game.tryDropCoconut();
+            game.advanceOneTick(ticks % 8 == 0 ? PlayerInput.FIRE.mask() : 0);
+            ticks++;
+        }
+        assertTrue(game.done(), "not done after " + ticks + " ticks");
+        assertNotNull(game.getCrab());
+        assertTrue(ticks > config.getMaxTime());
+        assertEquals(0, coconuts(game));
+    }
+
+    @Test
+    void noCoconutsDropAfterMaxTime() {
+        OhCoconutsGameManager game = new OhCoconutsGameManager(GameConfig.DEFAULT, GameView.NONE, 3);
+        for (int tick = 0; tick < GameConfig.DEFAULT.getMaxTime(); tick++) {
+            game.tryDropCoconut();
+        }
+        int dropped = coconuts(game);
+        for (int tick = 0; tick < 50; tick++) {
+            game.tryDropCoconut();
+        }
+        assertEquals(dropped, coconuts(game));
+        assertFalse(game.done(), "coconuts are still in the air");
+    }
+
+    /**
+     * Counts the coconuts in a game.
+     */
+    private static int coconuts(OhCoconutsGameManager game) {
+        EntityStore entities = game.getEntities();
+        int coconuts = 0;
+        for (int slot = 0; slot < entities.size(); slot++) {
+            if (entities.alive[slot] != 0 && entities.type[slot] == EntityType.COCONUT) {
+                coconuts++;
+            }
+        }
+        return coconuts;
+    }
+}
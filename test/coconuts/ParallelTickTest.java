@@ -0,0 +1,87 @@
+package coconuts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: ParallelTickTest
+ * Description: Plays the same seeded game single-threaded and split across
+ *              worker threads, large enough for the split to happen, and
+ *              checks that both play out bit for bit the same.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+class ParallelTickTest {
+
+    private static final int TICKS = 250;
+    private static final int COMPARE_INTERVAL = 25;
+
+    @Test
+    void workerThreadsMatchSingleThreadedTicks() {
+        compare(true);
+    }
+
+    @Test
+    void workerThreadsMatchSingleThreadedTicksWithoutSweptCollisions() {
+        compare(false);
+    }
+
+    /**
+     * Plays a single-threaded and a four-thread game side by side and
+     * compares their snapshots every COMPARE_INTERVAL ticks.
+     *
+     * @param swept whether the games use swept collisions
+     */
+    private static void compare(boolean swept) {
+        OhCoconutsGameManager single = newGame(swept, 1), parallel = newGame(swept, 4);
+        int peakEntities = 0;
+        for (int tick = 1; tick <= TICKS; tick++) {
+            play(single, tick);
+            play(parallel, tick);
+            peakEntities = Math.max(peakEntities, parallel.getEntities().size());
+            if (tick % COMPARE_INTERVAL == 0) {
+                assertArrayEquals(single.snapshot().toBytes(), parallel.snapshot().toBytes(), "tick " + tick);
+            }
+        }
+        assertTrue(peakEntities >= OhCoconutsGameManager.PARALLEL_MIN_ENTITIES,
+                "only " + peakEntities + " entities, the ticks were never split");
+    }
+
+    /**
+     * Creates a game heavy enough to be split across threads.
+     *
+     * @param swept   whether the game uses swept collisions
+     * @param workers number of worker threads
+     * @return the new game
+     */
+    private static OhCoconutsGameManager newGame(boolean swept, int workers) {
+        Properties load = new Properties();
+        load.setProperty(GameConfig.KEY_DROP_INTERVAL, "1");
+        load.setProperty(GameConfig.KEY_COCONUTS_PER_DROP, "80");
+        load.setProperty(GameConfig.KEY_MAX_TIME, String.valueOf(Integer.MAX_VALUE));
+        load.setProperty(GameConfig.KEY_INITIAL_HEALTH, "1000000");
+        load.setProperty(GameConfig.KEY_WIDTH, "6000");
+        OhCoconutsGameManager game = new OhCoconutsGameManager(GameConfig.DEFAULT.with(load), GameView.NONE, 19);
+        game.setSweptCollisions(swept);
+        game.setWorkerThreads(workers);
+        return game;
+    }
+
+    /**
+     * Plays one tick, firing every other tick and crawling back and forth.
+     */
+    private static void play(OhCoconutsGameManager game, int tick) {
+        if (tick % 2 == 0) {
+            game.autoFireLaser();
+        }
+        game.tryDropCoconut();
+        game.advanceOneTick(tick % 120 < 60 ? PlayerInput.RIGHT.mask() : PlayerInput.LEFT.mask());
+    }
+}
@@ -0,0 +1,116 @@
+package coconuts;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: ReplayTest
+ * Description: Records games with held input through ReplayRecorder and
+ *              checks that ReplayPlayer re-simulates them exactly, from the
+ *              start and after seeking, in both collision modes.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+class ReplayTest {
+
+    private static final int TICKS = 900;
+    private static final int CHECKPOINT_INTERVAL = 100;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void playbackMatchesEveryCheckpointAndTheFinalState() throws IOException {
+        Path file = directory.resolve("game.rpl");
+        OhCoconutsGameManager game = record(file, true);
+
+        ReplayPlayer player = ReplayPlayer.open(file);
+        assertTrue(player.isSweptCollisions());
+        assertEquals(TICKS, player.getEndTick());
+        assertEquals(TICKS / CHECKPOINT_INTERVAL - 1, player.verify());
+        assertArrayEquals(game.snapshot().toBytes(), player.getGame().snapshot().toBytes());
+    }
+
+    @Test
+    void seekingLandsOnTheStatePlayedThrough() throws IOException {
+        Path file = directory.resolve("game.rpl");
+        record(file, true);
+
+        ReplayPlayer stepped = ReplayPlayer.open(file);
+        for (int tick = 0; tick < 450; tick++) {
+            stepped.step();
+        }
+        ReplayPlayer seeked = ReplayPlayer.open(file);
+        seeked.seek(450);
+        assertEquals(450, seeked.getTick());
+        assertArrayEquals(stepped.getGame().snapshot().toBytes(), seeked.getGame().snapshot().toBytes());
+    }
+
+    @Test
+    void playsBackInTheRecordedCollisionMode() throws IOException {
+        Path file = directory.resolve("game.rpl");
+        OhCoconutsGameManager game = record(file, false);
+
+        ReplayPlayer player = ReplayPlayer.open(file);
+        assertFalse(player.isSweptCollisions());
+        player.verify();
+        assertFalse(player.getGame().isSweptCollisions());
+        assertArrayEquals(game.snapshot().toBytes(), player.getGame().snapshot().toBytes());
+    }
+
+    @Test
+    void rejectsReplaysOfOlderVersions() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(ReplayRecorder.MAGIC);
+        out.writeInt(ReplayRecorder.VERSION - 1);
+        out.writeLong(7);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new ReplayPlayer(ByteBuffer.wrap(bytes.toByteArray())));
+        assertTrue(e.getMessage().contains("older build"), e.getMessage());
+    }
+
+    /**
+     * Records a game the way GameController does, holding random actions
+     * that change every few ticks.
+     *
+     * @param file  the replay file to write
+     * @param swept whether the game uses swept collisions
+     * @return the recorded game after its last tick
+     */
+    private static OhCoconutsGameManager record(Path file, boolean swept) throws IOException {
+        OhCoconutsGameManager game = TestGames.newGame(7);
+        game.setSweptCollisions(swept);
+        Random random = new Random(3);
+        int heldMask = 0;
+        try (ReplayRecorder recorder = new ReplayRecorder(file, game, CHECKPOINT_INTERVAL)) {
+            for (int tick = 0; tick < TICKS; tick++) {
+                recorder.beforeTick();
+                if (tick % 15 == 0) {
+                    heldMask = random.nextInt(8);
+                    recorder.recordHeld(heldMask);
+                }
+                game.tryDropCoconut();
+                game.advanceOneTick(heldMask);
+            }
+        }
+        return game;
+    }
+}
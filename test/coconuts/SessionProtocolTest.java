@@ -0,0 +1,134 @@
+package coconuts;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: SessionProtocolTest
+ * Description: Checks the framing of SessionProtocol messages: every
+ *              message carries the length of what follows its prefix, and
+ *              nextMessageLength() only reports messages that have fully
+ *              arrived.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+class SessionProtocolTest {
+
+    @Test
+    void clientMessagesAreFramed() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        SessionProtocol.putJoin(buffer, 42);
+        SessionProtocol.putKey(buffer, true, PlayerInput.FIRE);
+        SessionProtocol.putKey(buffer, false, PlayerInput.LEFT);
+        SessionProtocol.putLeave(buffer);
+        buffer.flip();
+
+        assertEquals(SessionProtocol.JOIN, next(buffer).get());
+        ByteBuffer keyDown = next(buffer);
+        assertEquals(SessionProtocol.KEY_DOWN, keyDown.get());
+        assertEquals(PlayerInput.FIRE.ordinal(), keyDown.get());
+        ByteBuffer keyUp = next(buffer);
+        assertEquals(SessionProtocol.KEY_UP, keyUp.get());
+        assertEquals(PlayerInput.LEFT.ordinal(), keyUp.get());
+        assertEquals(SessionProtocol.LEAVE, next(buffer).get());
+        assertEquals(-1, SessionProtocol.nextMessageLength(buffer));
+    }
+
+    @Test
+    void joinCarriesTheSeed() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        SessionProtocol.putJoin(buffer, 0x1234_5678_9ABCL);
+        buffer.flip();
+
+        ByteBuffer join = next(buffer);
+        assertEquals(SessionProtocol.JOIN, join.get());
+        assertEquals(0x1234_5678_9ABCL, join.getLong());
+        assertEquals(0, join.remaining());
+    }
+
+    @Test
+    void partialMessagesAreNotReported() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        SessionProtocol.putJoin(buffer, 42);
+        int length = buffer.position();
+
+        for (int arrived = 0; arrived < length; arrived++) {
+            assertEquals(-1, SessionProtocol.nextMessageLength(buffer.duplicate().flip().limit(arrived)));
+        }
+        assertEquals(length - SessionProtocol.LENGTH_BYTES, SessionProtocol.nextMessageLength(buffer.flip()));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void serverMessagesAreFramed() {
+        OhCoconutsGameManager game = TestGames.newGame(9);
+        for (int tick = 0; tick < 200; tick++) {
+            game.tryDropCoconut();
+            game.advanceOneTick(tick % 10 == 0 ? PlayerInput.FIRE.mask() : 0);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(64 + SessionProtocol.stateBytes(game));
+        SessionProtocol.putWelcome(buffer, 3, game);
+        int stateStart = buffer.position();
+        SessionProtocol.putState(buffer, game);
+        assertTrue(buffer.position() - stateStart <= SessionProtocol.stateBytes(game));
+        SessionProtocol.putGameOver(buffer);
+        buffer.flip();
+
+        ByteBuffer welcome = next(buffer);
+        assertEquals(SessionProtocol.WELCOME, welcome.get());
+        assertEquals(3, welcome.getInt());
+        assertEquals(game.getHeight(), welcome.getShort());
+        assertEquals(game.getWidth(), welcome.getShort());
+
+        ByteBuffer state = next(buffer);
+        assertEquals(SessionProtocol.STATE, state.get());
+        assertEquals(game.getTickCount(), state.getInt());
+        assertEquals(game.getScoreboardData().getHealth(), state.getInt());
+        assertEquals(game.getScoreboardData().getDestroyedCoconuts(), state.getInt());
+        assertEquals(game.getScoreboardData().getBeachedCoconuts(), state.getInt());
+        int count = state.getShort();
+        assertEquals(count * SessionProtocol.STATE_ENTITY_BYTES, state.remaining());
+        assertTrue(count > 0);
+
+        assertEquals(SessionProtocol.GAME_OVER, next(buffer).get());
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    void stateCarriesHealthAboveShortRange() {
+        Properties props = new Properties();
+        props.setProperty(GameConfig.KEY_INITIAL_HEALTH, "1000000");
+        OhCoconutsGameManager game = new OhCoconutsGameManager(TestGames.config().with(props), GameView.NONE, 9);
+        ByteBuffer buffer = ByteBuffer.allocate(SessionProtocol.stateBytes(game));
+        SessionProtocol.putState(buffer, game);
+        buffer.flip();
+
+        ByteBuffer state = next(buffer);
+        assertEquals(SessionProtocol.STATE, state.get());
+        state.getInt();
+        assertEquals(1_000_000, state.getInt());
+    }
+
+    /**
+     * Takes the next complete message from a buffer.
+     *
+     * @param buffer the buffer, flipped for reading
+     * @return the message after its length prefix
+     */
+    private static ByteBuffer next(ByteBuffer buffer) {
+        int length = SessionProtocol.nextMessageLength(buffer);
+        assertTrue(length >= 0, "no complete message");
+        buffer.position(buffer.position() + SessionProtocol.LENGTH_BYTES);
+        ByteBuffer message = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return message;
+    }
+}
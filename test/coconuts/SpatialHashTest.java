@@ -0,0 +1,105 @@
+package coconuts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: SpatialHashTest
+ * Description: Plays the same seeded game with the spatial hash broadphase
+ *              and with the brute-force pass over every pair, and checks
+ *              that both find the same hits: equal scores and the same
+ *              surviving entities after every tick.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+class SpatialHashTest {
+
+    private static final int TICKS = 600;
+
+    @Test
+    void gridFindsTheSameHitsAsTestingEveryPair() {
+        compare(true);
+    }
+
+    @Test
+    void gridFindsTheSameHitsWithoutSweptCollisions() {
+        compare(false);
+    }
+
+    /**
+     * Plays a game with the grid and one with the brute-force pass side by
+     * side, comparing them after every tick.
+     *
+     * @param swept whether the games use swept collisions
+     */
+    private static void compare(boolean swept) {
+        OhCoconutsGameManager grid = newGame(swept, true), bruteForce = newGame(swept, false);
+        for (int tick = 0; tick < TICKS; tick++) {
+            play(grid, tick);
+            play(bruteForce, tick);
+
+            ScoreboardData expected = bruteForce.getScoreboardData(), actual = grid.getScoreboardData();
+            assertEquals(expected.getDestroyedCoconuts(), actual.getDestroyedCoconuts(), "destroyed at tick " + tick);
+            assertEquals(expected.getBeachedCoconuts(), actual.getBeachedCoconuts(), "beached at tick " + tick);
+            assertEquals(expected.getHealth(), actual.getHealth(), "health at tick " + tick);
+            assertArrayEquals(survivors(bruteForce), survivors(grid), "entities at tick " + tick);
+        }
+        ScoreboardData score = grid.getScoreboardData();
+        assertTrue(score.getDestroyedCoconuts() > 0 && score.getBeachedCoconuts() > 0,
+                "the game should have both shot and beached coconuts");
+    }
+
+    /**
+     * Creates a busy game: several coconuts every other tick across a wide
+     * playfield.
+     *
+     * @param swept whether the game uses swept collisions
+     * @param grid  whether the game uses the grid broadphase
+     * @return the new game
+     */
+    private static OhCoconutsGameManager newGame(boolean swept, boolean grid) {
+        Properties load = new Properties();
+        load.setProperty(GameConfig.KEY_DROP_INTERVAL, "2");
+        load.setProperty(GameConfig.KEY_COCONUTS_PER_DROP, "6");
+        load.setProperty(GameConfig.KEY_INITIAL_HEALTH, "100000");
+        OhCoconutsGameManager game = new OhCoconutsGameManager(TestGames.config().with(load), GameView.NONE, 23);
+        game.setSweptCollisions(swept);
+        game.setGridBroadphase(grid);
+        return game;
+    }
+
+    /**
+     * Plays one tick, firing every third tick and crawling back and forth.
+     */
+    private static void play(OhCoconutsGameManager game, int tick) {
+        if (tick % 3 == 0) {
+            game.autoFireLaser();
+        }
+        game.tryDropCoconut();
+        game.advanceOneTick(tick % 80 < 40 ? PlayerInput.RIGHT.mask() : PlayerInput.LEFT.mask());
+    }
+
+    /**
+     * Lists the id, type and position of every living entity, in slot order.
+     */
+    private static int[] survivors(OhCoconutsGameManager game) {
+        EntityStore entities = game.getEntities();
+        List<Integer> survivors = new ArrayList<>();
+        for (int slot = 0; slot < entities.size(); slot++) {
+            if (entities.alive[slot] == 0) { continue; }
+
+            survivors.addAll(List.of(entities.id[slot], entities.type[slot], entities.x[slot], entities.y[slot]));
+        }
+        return survivors.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,147 @@
+package coconuts;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: StateStreamTest
+ * Description: Streams a game through StateStreamEncoder and checks that
+ *              StateStreamDecoder rebuilds the game's visible state after
+ *              every tick, whether it reads from the start or joins the
+ *              stream part way through.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+class StateStreamTest {
+
+    private static final int TICKS = 600;
+    private static final int KEYFRAME_INTERVAL = 50;
+
+    /**
+     * Sink keeping each record in memory.
+     */
+    private static final class MemorySink implements StateSink {
+
+        final List<byte[]> records = new ArrayList<>();
+
+        @Override
+        public void write(ByteBuffer record, boolean keyframe) {
+            byte[] bytes = new byte[record.remaining()];
+            record.duplicate().get(bytes);
+            records.add(bytes);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        /** Returns the stream header followed by the records from the given one on. */
+        byte[] stream(int firstRecord) {
+            ByteBuffer header = ByteBuffer.allocate(StateStream.HEADER_BYTES);
+            StateStream.putHeader(header);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.writeBytes(header.array());
+            for (byte[] record : records.subList(firstRecord, records.size())) {
+                out.writeBytes(record);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    @Test
+    void decoderMatchesTheGameAfterEveryTick() throws IOException {
+        MemorySink sink = new MemorySink();
+        List<int[]> expected = stream(sink);
+
+        StateStreamDecoder decoder = new StateStreamDecoder(new ByteArrayInputStream(sink.stream(0)));
+        for (int[] state : expected) {
+            assertTrue(decoder.next());
+            assertTrue(decoder.isSynced());
+            assertArrayEquals(state, visibleState(decoder), "tick " + decoder.getTick());
+        }
+        assertFalse(decoder.next());
+    }
+
+    @Test
+    void decoderJoiningMidStreamSyncsAtTheNextKeyframe() throws IOException {
+        MemorySink sink = new MemorySink();
+        List<int[]> expected = stream(sink);
+
+        int join = KEYFRAME_INTERVAL * 3 + 7;
+        StateStreamDecoder decoder = new StateStreamDecoder(new ByteArrayInputStream(sink.stream(join)));
+        for (int record = join; record < expected.size(); record++) {
+            assertTrue(decoder.next());
+            if (record < KEYFRAME_INTERVAL * 4) {
+                assertFalse(decoder.isSynced(), "synced before a keyframe at record " + record);
+            } else {
+                assertTrue(decoder.isSynced());
+                assertArrayEquals(expected.get(record), visibleState(decoder), "tick " + decoder.getTick());
+            }
+        }
+    }
+
+    /**
+     * Plays a game with a memory sink attached.
+     *
+     * @param sink the sink receiving the stream
+     * @return the visible state of the game as of each record written
+     */
+    private static List<int[]> stream(MemorySink sink) throws IOException {
+        OhCoconutsGameManager game = TestGames.newGame(5);
+        List<int[]> states = new ArrayList<>();
+        try (StateStreamEncoder encoder = new StateStreamEncoder(game, sink, KEYFRAME_INTERVAL)) {
+            game.setStateStream(encoder);
+            states.add(visibleState(game));
+            for (int tick = 0; tick < TICKS; tick++) {
+                game.tryDropCoconut();
+                game.advanceOneTick(tick % 12 < 4 ? PlayerInput.FIRE.mask() | PlayerInput.RIGHT.mask() : 0);
+                states.add(visibleState(game));
+            }
+        }
+        assertEquals(states.size(), sink.records.size());
+        return states;
+    }
+
+    /**
+     * Flattens a game's visible state: tick, scores, then the id, type and
+     * position of each living entity in id order.
+     */
+    private static int[] visibleState(OhCoconutsGameManager game) {
+        EntityStore entities = game.getEntities();
+        ScoreboardData score = game.getScoreboardData();
+        List<Integer> state = new ArrayList<>(List.of(game.getTickCount(), score.getHealth(),
+                score.getDestroyedCoconuts(), score.getBeachedCoconuts()));
+        for (int slot = 0; slot < entities.size(); slot++) {
+            if (entities.alive[slot] == 0) { continue; }
+
+            state.addAll(List.of(entities.id[slot], entities.type[slot], entities.x[slot], entities.y[slot]));
+        }
+        return state.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Flattens a decoder's state the same way.
+     */
+    private static int[] visibleState(StateStreamDecoder decoder) {
+        List<Integer> state = new ArrayList<>(List.of(decoder.getTick(), decoder.getHealth(),
+                decoder.getDestroyed(), decoder.getBeached()));
+        for (int i = 0; i < decoder.getCount(); i++) {
+            state.addAll(List.of(decoder.getId(i), decoder.getType(i), decoder.getX(i), decoder.getY(i)));
+        }
+        return state.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,63 @@
+package coconuts;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: SweptCollisionTest
+ * Description: Moves a laser and a coconut through each other within one
+ *              tick, faster than the touching box is wide, and checks that
+ *              swept collisions catch the hit that end-of-tick tests miss.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+class SweptCollisionTest {
+
+    /** Speeds per tick; together 90px, more than the 70px the touching box spans. */
+    private static final int COCONUT_SPEED = 30, LASER_SPEED = -60;
+
+    @Test
+    void sweptCollisionsHitObjectsThatCrossWithinATick() {
+        assertEquals(1, cross(true, 0));
+    }
+
+    @Test
+    void endOfTickCollisionsMissObjectsThatCrossWithinATick() {
+        assertEquals(0, cross(false, 0));
+    }
+
+    @Test
+    void sweptCollisionsMissObjectsThatPassSideBySide() {
+        assertEquals(0, cross(true, 3 * IslandObject.minimumTouchingDistance));
+    }
+
+    /**
+     * Puts a coconut 50px above a laser, both moving fast enough to swap
+     * places within the next tick without touching at its start or end,
+     * and plays that tick.
+     *
+     * @param swept whether the game uses swept collisions
+     * @param gap   horizontal distance between the two
+     * @return the number of coconuts destroyed in the tick
+     */
+    private static int cross(boolean swept, int gap) {
+        OhCoconutsGameManager game = TestGames.newGame(1);
+        game.setSweptCollisions(swept);
+        EntityStore entities = game.getEntities();
+
+        Coconut coconut = new Coconut(game, 300);
+        coconut.setY(100);
+        entities.velocityY[coconut.slot] = COCONUT_SPEED;
+        game.registerObject(coconut);
+        LaserBeam laser = new LaserBeam(game, 150, 300 + gap);
+        entities.velocityY[laser.slot] = LASER_SPEED;
+        game.registerObject(laser);
+
+        game.advanceOneTick(); // Coconut ends at y=130, the laser 40px above it at y=90
+        return game.getScoreboardData().getDestroyedCoconuts();
+    }
+}
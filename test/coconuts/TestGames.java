@@ -0,0 +1,46 @@
+package coconuts;
+
+import java.util.Properties;
+
+/**
+ * -----------------------------------------------------------------------------
+ * Class Name: TestGames
+ * Description: Helpers shared by the tests for building and playing
+ *              headless games. The games drop coconuts for as long as they
+ *              are played, so a test of a few hundred ticks does not run
+ *              out of coconuts when the normal game's maxTime is reached.
+ *
+ * @version 1.0
+ * @since   10/17/26
+ * -----------------------------------------------------------------------------
+ */
+final class TestGames {
+
+    /** Size of the playfield of the tests' games. */
+    static final int HEIGHT = 400, WIDTH = 640;
+
+    private TestGames() {
+    }
+
+    /**
+     * Returns the rules of the normal game on the tests' playfield, with
+     * coconuts dropping without end.
+     *
+     * @return the configuration
+     */
+    static GameConfig config() {
+        Properties rules = new Properties();
+        rules.setProperty(GameConfig.KEY_MAX_TIME, String.valueOf(Integer.MAX_VALUE));
+        return GameConfig.DEFAULT.withPlayfield(HEIGHT, WIDTH).with(rules);
+    }
+
+    /**
+     * Creates a headless game with config() and the given seed.
+     *
+     * @param seed seed of the game
+     * @return the new game
+     */
+    static OhCoconutsGameManager newGame(long seed) {
+        return new OhCoconutsGameManager(config(), GameView.NONE, seed);
+    }
+}